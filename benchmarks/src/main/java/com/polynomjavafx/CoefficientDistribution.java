@@ -0,0 +1,89 @@
+package com.polynomjavafx;
+
+import java.util.Random;
+
+/**
+ * Ways to create the coefficients of a benchmarked polynomial, from well-behaved to numerically hard inputs
+ */
+public enum CoefficientDistribution {
+    // Independent coefficients between -10 and 10
+    RANDOM {
+        @Override
+        double[] coefficients(int degree, Random random) {
+            double[] coefficients = new double[degree + 1];
+            for (int i = 0; i <= degree; i++) {
+                coefficients[i] = random.nextDouble() * 20.0 - 10.0;
+            }
+            // The leading coefficient must not vanish
+            coefficients[degree] = coefficients[degree] < 0 ? coefficients[degree] - 1.0 : coefficients[degree] + 1.0;
+            return coefficients;
+        }
+    },
+    // Wilkinson's polynomial (x - 1)(x - 2)...(x - n): the roots are very sensitive to the coefficients
+    WILKINSON {
+        @Override
+        double[] coefficients(int degree, Random random) {
+            double[] roots = new double[degree];
+            for (int i = 0; i < degree; i++) {
+                roots[i] = i + 1;
+            }
+            return fromRoots(roots);
+        }
+    },
+    // Three roots of high multiplicity: (x + 2)^k (x - 0.5)^k (x - 1.5)^m
+    MULTIPLE_ROOTS {
+        @Override
+        double[] coefficients(int degree, Random random) {
+            double[] roots = new double[degree];
+            for (int i = 0; i < degree; i++) {
+                roots[i] = i < degree / 3 ? -2.0 : i < 2 * degree / 3 ? 0.5 : 1.5;
+            }
+            return fromRoots(roots);
+        }
+    },
+    // Distinct roots that are only 0.001 apart
+    CLUSTERED {
+        @Override
+        double[] coefficients(int degree, Random random) {
+            double[] roots = new double[degree];
+            for (int i = 0; i < degree; i++) {
+                roots[i] = 1.0 + i * 0.001;
+            }
+            return fromRoots(roots);
+        }
+    },
+    // x^n - 3x^(n/2) + 2, which is stored as sparse terms from degree 16 on
+    SPARSE {
+        @Override
+        double[] coefficients(int degree, Random random) {
+            double[] coefficients = new double[degree + 1];
+            coefficients[degree] = 1.0;
+            coefficients[degree / 2] -= 3.0;
+            coefficients[0] += 2.0;
+            return coefficients;
+        }
+    };
+
+    /**
+     * @param degree degree of the polynomial, at least 1
+     * @param random source for distributions with random coefficients, seeded by the caller
+     * @return coefficients ordered by ascending exponent
+     */
+    abstract double[] coefficients(int degree, Random random);
+
+    /**
+     * Multiplies out (x - roots[0])(x - roots[1])...
+     */
+    static double[] fromRoots(double[] roots) {
+        double[] coefficients = new double[roots.length + 1];
+        coefficients[0] = 1.0;
+        for (int i = 0; i < roots.length; i++) {
+            // Multiply the first i + 1 coefficients by (x - root)
+            for (int j = i + 1; j > 0; j--) {
+                coefficients[j] = coefficients[j - 1] - roots[i] * coefficients[j];
+            }
+            coefficients[0] *= -roots[i];
+        }
+        return coefficients;
+    }
+}
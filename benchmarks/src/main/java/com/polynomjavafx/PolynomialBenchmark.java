@@ -0,0 +1,137 @@
+package com.polynomjavafx;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the math core of {@link Polynomial} for several degrees, coefficient distributions and root solvers
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolynomialBenchmark {
+    // Amount of x values per call of the functionValue benchmark
+    private static final int SAMPLES = 1024;
+
+    @Param({"3", "6", "20", "64"})
+    public int degree;
+
+    @Param({"RANDOM", "WILKINSON", "MULTIPLE_ROOTS", "CLUSTERED", "SPARSE"})
+    public CoefficientDistribution distribution;
+
+    @Param({"ISOLATING", "ABERTH", "NEWTON"})
+    public String solver;
+
+    private double[] coefficients;
+    private Polynomial polynomial;
+    private double[] xs;
+    private RootSolver previousSolver;
+
+    @Setup(Level.Trial)
+    public void setUp() throws WrongInputSizeException {
+        // Same coefficients in every fork, so results of different runs can be compared
+        this.coefficients = this.distribution.coefficients(this.degree, new Random(42));
+        this.polynomial = new Polynomial(this.coefficients);
+        this.previousSolver = Polynomial.getRootSolver();
+        Polynomial.setRootSolver(createSolver(this.solver));
+
+        // Evenly spread over the interval that contains the roots of every distribution
+        this.xs = new double[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            this.xs[i] = -3.0 + (this.degree + 6.0) * i / SAMPLES;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Polynomial.setRootSolver(this.previousSolver);
+    }
+
+    private static RootSolver createSolver(String name) {
+        return switch (name) {
+            case "ISOLATING" -> new IsolatingRootSolver();
+            case "ABERTH" -> new AberthRootSolver();
+            case "NEWTON" -> new NewtonRootSolver();
+            default -> throw new IllegalArgumentException("Unknown root solver: " + name);
+        };
+    }
+
+    @Benchmark
+    public double functionValue() {
+        double sum = 0.0;
+        for (double x : this.xs) {
+            sum += this.polynomial.functionValue(x);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public ArrayList<Double> calculateRoots() {
+        return this.polynomial.calculateRoots();
+    }
+
+    @Benchmark
+    public Object calculateExtrema() {
+        try {
+            return this.polynomial.calculateExtrema();
+        } catch (ComputationFailedException e) {
+            // Ill-conditioned inputs may fail, which is measured as well instead of ending the run
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object calculateInflectionPoints() {
+        try {
+            return this.polynomial.calculateInflectionPoints();
+        } catch (ComputationFailedException e) {
+            // Ill-conditioned inputs may fail, which is measured as well instead of ending the run
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object calculateSaddlePoints() {
+        try {
+            return this.polynomial.calculateSaddlePoints();
+        } catch (ComputationFailedException e) {
+            // Ill-conditioned inputs may fail, which is measured as well instead of ending the run
+            return e;
+        }
+    }
+
+    /**
+     * A new polynomial for every call, so the antiderivative and the roots are calculated each time
+     */
+    @State(Scope.Thread)
+    public static class FreshPolynomial {
+        private Polynomial polynomial;
+
+        @Setup(Level.Invocation)
+        public void setUp(PolynomialBenchmark benchmark) throws WrongInputSizeException {
+            this.polynomial = new Polynomial(benchmark.coefficients);
+        }
+    }
+
+    @Benchmark
+    public double getIntegral(FreshPolynomial fresh) {
+        return fresh.polynomial.getIntegral(-1.0, 2.0);
+    }
+
+    @Benchmark
+    public double getIntegralCached() {
+        // After the first call only the antiderivative is evaluated
+        return this.polynomial.getIntegral(-1.0, 2.0);
+    }
+
+    @Benchmark
+    public Polynomial constructor() throws WrongInputSizeException {
+        return new Polynomial(this.coefficients);
+    }
+}
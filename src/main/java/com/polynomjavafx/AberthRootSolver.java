@@ -0,0 +1,236 @@
+package com.polynomjavafx;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Finds all roots of a polynomial at once with the Aberth–Ehrlich method.
+ * Every sweep improves all n approximations with O(n²) operations, simple roots converge cubically.
+ * Complex numbers are stored as separate real and imaginary parts, so the iteration doesn't allocate
+ */
+public class AberthRootSolver implements RootSolver {
+    private static final int MAX_ITERATIONS = 500;
+    private static final double EPSILON = Math.ulp(1.0);
+    // Roots with a larger imaginary part (relative to their absolute value) are never treated as real
+    private static final double REAL_TOLERANCE = 1.0e-3;
+
+    @Override
+    public ArrayList<Double> findRealRoots(double[] coefficients) {
+        ArrayList<Double> realRoots = new ArrayList<>();
+        for (double[] root : findComplexRoots(coefficients)) {
+            if (isReal(coefficients, root)) {
+                realRoots.add(root[0]);
+            }
+        }
+        return realRoots;
+    }
+
+    @Override
+    public ArrayList<double[]> findComplexRoots(double[] coefficients) {
+        ArrayList<double[]> roots = new ArrayList<>();
+        int degree = Polynomial.getDegree(coefficients);
+
+        // Every zero coefficient below the lowest non-zero one is a root at 0: a_k x^k + ... = x^k (a_k + ...)
+        int lowest = 0;
+        while (lowest < degree && coefficients[lowest] == 0) {
+            roots.add(new double[]{0.0, 0.0});
+            lowest++;
+        }
+        int n = degree - lowest;
+        if (n < 1) {
+            return roots;
+        }
+
+        double[] reduced = Arrays.copyOfRange(coefficients, lowest, degree + 1);
+        double[] re = new double[n];
+        double[] im = new double[n];
+        initialApproximations(reduced, re, im);
+
+        boolean[] converged = new boolean[n];
+        double[] correction = new double[2];
+        int remaining = n;
+        for (int iteration = 0; iteration < MAX_ITERATIONS && remaining > 0; iteration++) {
+            // Every sweep costs O(n²), a cancelled analysis stops after the current one
+            UtilityClasses.checkInterrupted();
+            for (int i = 0; i < n; i++) {
+                if (converged[i]) {
+                    continue;
+                }
+                // The function value is zero within rounding errors, so the approximation can't be improved
+                if (!newtonCorrection(reduced, re[i], im[i], correction)) {
+                    converged[i] = true;
+                    remaining--;
+                    continue;
+                }
+
+                // Sum of 1 / (z_i - z_j) over all other approximations
+                double sumRe = 0.0;
+                double sumIm = 0.0;
+                for (int j = 0; j < n; j++) {
+                    double diffRe = re[i] - re[j];
+                    double diffIm = im[i] - im[j];
+                    double squaredAbs = diffRe * diffRe + diffIm * diffIm;
+                    if (j != i && squaredAbs != 0.0) {
+                        sumRe += diffRe / squaredAbs;
+                        sumIm -= diffIm / squaredAbs;
+                    }
+                }
+
+                // Aberth step w = N / (1 - N * sum) with the Newton correction N = p(z) / p'(z)
+                double denominatorRe = 1.0 - (correction[0] * sumRe - correction[1] * sumIm);
+                double denominatorIm = -(correction[0] * sumIm + correction[1] * sumRe);
+                double squaredAbs = denominatorRe * denominatorRe + denominatorIm * denominatorIm;
+                double stepRe = (correction[0] * denominatorRe + correction[1] * denominatorIm) / squaredAbs;
+                double stepIm = (correction[1] * denominatorRe - correction[0] * denominatorIm) / squaredAbs;
+                if (!Double.isFinite(stepRe) || !Double.isFinite(stepIm)) {
+                    converged[i] = true;
+                    remaining--;
+                    continue;
+                }
+
+                re[i] -= stepRe;
+                im[i] -= stepIm;
+                if (Math.hypot(stepRe, stepIm) <= EPSILON * Math.hypot(re[i], im[i])) {
+                    converged[i] = true;
+                    remaining--;
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            roots.add(new double[]{re[i], im[i]});
+        }
+        return roots;
+    }
+
+    /**
+     * Places the starting values on circles whose radii come from the upper convex hull of the points
+     * (i, log|a_i|), the Newton polygon. Every edge of the hull from i to j stands for j - i roots with
+     * an absolute value of about (|a_i| / |a_j|)^(1 / (j - i)). This way roots of very different sizes get
+     * fitting starting values and the iteration doesn't have to travel in from a huge circle
+     */
+    private static void initialApproximations(double[] coefficients, double[] re, double[] im) {
+        int n = re.length;
+        int[] hull = new int[n + 1];
+        int hullSize = 0;
+        for (int i = 0; i <= n; i++) {
+            if (coefficients[i] == 0.0) {
+                continue;
+            }
+            // Remove points that lie on or below the line from the point before them to the current one
+            while (hullSize >= 2 && !isRightTurn(coefficients, hull[hullSize - 2], hull[hullSize - 1], i)) {
+                hullSize--;
+            }
+            hull[hullSize++] = i;
+        }
+
+        int index = 0;
+        for (int edge = 0; edge < hullSize - 1; edge++) {
+            int from = hull[edge];
+            int to = hull[edge + 1];
+            int amount = to - from;
+            double radius = Math.pow(Math.abs(coefficients[from] / coefficients[to]), 1.0 / amount);
+            // Rotate every circle differently, so no value starts on the real axis or next to one of another circle
+            double rotation = 2.0 * Math.PI * from / n + 0.4;
+            for (int k = 0; k < amount; k++) {
+                double angle = 2.0 * Math.PI * k / amount + rotation;
+                re[index] = radius * Math.cos(angle);
+                im[index] = radius * Math.sin(angle);
+                index++;
+            }
+        }
+    }
+
+    private static boolean isRightTurn(double[] coefficients, int i, int j, int k) {
+        double yi = Math.log(Math.abs(coefficients[i]));
+        double yj = Math.log(Math.abs(coefficients[j]));
+        double yk = Math.log(Math.abs(coefficients[k]));
+        // The cross product of (j - i, yj - yi) and (k - i, yk - yi) is negative if k lies below the line through i and j
+        return (j - i) * (yk - yi) - (k - i) * (yj - yi) < 0.0;
+    }
+
+    /**
+     * Calculates the Newton correction p(z) / p'(z) for a complex z.
+     * For |z| > 1 the reversed polynomial in 1/z is evaluated instead, so high degrees don't overflow
+     * @param result array the correction is written to as {real part, imaginary part}
+     * @return false if p(z) is zero within the rounding error of the evaluation
+     */
+    private static boolean newtonCorrection(double[] coefficients, double zRe, double zIm, double[] result) {
+        int n = coefficients.length - 1;
+        double absZ = Math.hypot(zRe, zIm);
+
+        if (absZ <= 1.0) {
+            double valueRe = 0.0, valueIm = 0.0;
+            double derivRe = 0.0, derivIm = 0.0;
+            double bound = 0.0;
+            for (int i = n; i >= 0; i--) {
+                double newDerivRe = derivRe * zRe - derivIm * zIm + valueRe;
+                derivIm = derivRe * zIm + derivIm * zRe + valueIm;
+                derivRe = newDerivRe;
+                double newValueRe = valueRe * zRe - valueIm * zIm + coefficients[i];
+                valueIm = valueRe * zIm + valueIm * zRe;
+                valueRe = newValueRe;
+                bound = bound * absZ + Math.abs(coefficients[i]);
+            }
+            if (Math.hypot(valueRe, valueIm) <= 4.0 * n * EPSILON * bound) {
+                return false;
+            }
+            divide(valueRe, valueIm, derivRe, derivIm, result);
+            return true;
+        }
+
+        // p(z) = z^n q(w) with w = 1/z and q(w) = a_0 w^n + a_1 w^(n-1) + ... + a_n
+        double squaredAbs = zRe * zRe + zIm * zIm;
+        double wRe = zRe / squaredAbs;
+        double wIm = -zIm / squaredAbs;
+        double absW = 1.0 / absZ;
+        double valueRe = 0.0, valueIm = 0.0;
+        double derivRe = 0.0, derivIm = 0.0;
+        double bound = 0.0;
+        for (int i = 0; i <= n; i++) {
+            double newDerivRe = derivRe * wRe - derivIm * wIm + valueRe;
+            derivIm = derivRe * wIm + derivIm * wRe + valueIm;
+            derivRe = newDerivRe;
+            double newValueRe = valueRe * wRe - valueIm * wIm + coefficients[i];
+            valueIm = valueRe * wIm + valueIm * wRe;
+            valueRe = newValueRe;
+            bound = bound * absW + Math.abs(coefficients[i]);
+        }
+        if (Math.hypot(valueRe, valueIm) <= 4.0 * n * EPSILON * bound) {
+            return false;
+        }
+
+        // p'(z) / p(z) = w (n - w q'(w) / q(w)), the correction is the reciprocal of that
+        divide(derivRe, derivIm, valueRe, valueIm, result);
+        double innerRe = n - (wRe * result[0] - wIm * result[1]);
+        double innerIm = -(wRe * result[1] + wIm * result[0]);
+        double logDerivRe = wRe * innerRe - wIm * innerIm;
+        double logDerivIm = wRe * innerIm + wIm * innerRe;
+        divide(1.0, 0.0, logDerivRe, logDerivIm, result);
+        return true;
+    }
+
+    private static void divide(double aRe, double aIm, double bRe, double bIm, double[] result) {
+        double squaredAbs = bRe * bRe + bIm * bIm;
+        result[0] = (aRe * bRe + aIm * bIm) / squaredAbs;
+        result[1] = (aIm * bRe - aRe * bIm) / squaredAbs;
+    }
+
+    /**
+     * Decides whether an approximation belongs to a real root. Multiple roots are only found with a small
+     * imaginary part, so the polynomial itself has to vanish at the real part within its rounding error
+     */
+    private static boolean isReal(double[] coefficients, double[] root) {
+        double x = root[0];
+        if (Math.abs(root[1]) > REAL_TOLERANCE * Math.max(1.0, Math.abs(x))) {
+            return false;
+        }
+        double value = 0.0;
+        double bound = 0.0;
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            value = value * x + coefficients[i];
+            bound = bound * Math.abs(x) + Math.abs(coefficients[i]);
+        }
+        return Math.abs(value) <= 32.0 * coefficients.length * EPSILON * bound;
+    }
+}
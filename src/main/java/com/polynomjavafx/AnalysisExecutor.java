@@ -0,0 +1,83 @@
+package com.polynomjavafx;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Calculates the analysis of polynomials in the background, so the JavaFX Application Thread never waits for it.
+ * Only the newest job is of interest: every submission cancels the previous one and results of
+ * replaced jobs are dropped. A running job is interrupted and stops at the next check of the analysis loops,
+ * see {@link UtilityClasses#checkInterrupted()}. All methods have to be called from the JavaFX Application Thread
+ */
+public class AnalysisExecutor {
+    // One thread, and at most one job waits for it: a newer job pushes the waiting one out of the queue
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), runnable -> {
+        Thread thread = new Thread(runnable, "polynomial-analysis");
+        // Don't keep the application alive after the window was closed
+        thread.setDaemon(true);
+        return thread;
+    }, new ThreadPoolExecutor.DiscardOldestPolicy());
+    private Future<?> currentJob;
+    // Incremented for every submission, results of older jobs are ignored
+    private long generation = 0;
+
+    /**
+     * Calculates the analysis of the polynomial and passes it to onFinished on the JavaFX Application Thread
+     * @param polynomial polynomial to analyse
+     * @param onFinished called with the result, unless another job was submitted or cancel was called before
+     */
+    public void submit(Polynomial polynomial, Consumer<PolynomialAnalysis> onFinished) {
+        cancel();
+        // Already calculated analyses don't need a detour over another thread
+        if (polynomial.isAnalysed()) {
+            onFinished.accept(polynomial.getAnalysis());
+            return;
+        }
+
+        submit(polynomial::getAnalysis, onFinished);
+    }
+
+    /**
+     * Runs any calculation in the background like an analysis, it replaces the current job as well
+     * @param calculation called on the background thread, may throw a CancellationException when it is cancelled
+     * @param onFinished called with the result, unless another job was submitted or cancel was called before
+     */
+    public <T> void submit(Supplier<T> calculation, Consumer<T> onFinished) {
+        cancel();
+        long jobGeneration = this.generation;
+        this.currentJob = executor.submit(() -> {
+            T result;
+            try {
+                result = calculation.get();
+            } catch (CancellationException e) {
+                // Replaced by a newer job, nobody waits for this result
+                return;
+            }
+            Platform.runLater(() -> {
+                if (jobGeneration == this.generation) {
+                    this.currentJob = null;
+                    onFinished.accept(result);
+                }
+            });
+        });
+    }
+
+    /**
+     * Cancels the current job, its result won't be delivered anymore
+     */
+    public void cancel() {
+        this.generation++;
+        if (this.currentJob != null) {
+            this.currentJob.cancel(true);
+            this.currentJob = null;
+        }
+    }
+}
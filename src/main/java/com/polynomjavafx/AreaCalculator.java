@@ -0,0 +1,60 @@
+package com.polynomjavafx;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Antiderivative and real roots of a polynomial, kept together so definite integrals cost a few evaluations of
+ * the antiderivative. The area between curve and x-axis is split at the roots, where the curve changes its sign.
+ * Created once per polynomial, see {@link Polynomial#integrate(double[], double[], double[], double[])}
+ */
+final class AreaCalculator {
+    // Dense antiderivative coefficients with the constant 0, null if the polynomial is stored as sparse terms
+    private final double[] antiderivative;
+    private final SparseTerms sparseAntiderivative;
+    // Real roots in ascending order and the antiderivative at each of them
+    private final double[] roots;
+    private final double[] rootValues;
+
+    AreaCalculator(double[] antiderivative, SparseTerms sparseAntiderivative, ArrayList<Double> realRoots) {
+        this.antiderivative = antiderivative;
+        this.sparseAntiderivative = sparseAntiderivative;
+        // The roots are used unrounded, rounding them like Polynomial.cleanRoots would misplace the split
+        this.roots = realRoots.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        this.rootValues = new double[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            rootValues[i] = antiderivativeValue(roots[i]);
+        }
+    }
+
+    double antiderivativeValue(double x) {
+        return sparseAntiderivative != null ? sparseAntiderivative.functionValue(x) : Polynomial.functionValue(antiderivative, x);
+    }
+
+    /**
+     * @return the integral from a to b, negative if the area below the x-axis is bigger or b is smaller than a
+     */
+    double signedArea(double a, double b) {
+        return antiderivativeValue(b) - antiderivativeValue(a);
+    }
+
+    /**
+     * @return the area between the curve and the x-axis from a to b, the parts below the x-axis count positive
+     */
+    double absoluteArea(double a, double b) {
+        double lower = Math.min(a, b);
+        double upper = Math.max(a, b);
+        // First root right of the lower bound
+        int index = Arrays.binarySearch(roots, lower);
+        index = index >= 0 ? index + 1 : -index - 1;
+
+        double area = 0.0;
+        double value = antiderivativeValue(lower);
+        for (; index < roots.length && roots[index] < upper; index++) {
+            // Between two roots the sign doesn't change, so the integral has the sign of the curve
+            area += Math.abs(rootValues[index] - value);
+            value = rootValues[index];
+        }
+        return area + Math.abs(antiderivativeValue(upper) - value);
+    }
+}
@@ -0,0 +1,235 @@
+package com.polynomjavafx;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+/**
+ * Analyses polynomials without the user interface and never loads JavaFX, so it also runs without it on the
+ * class path. Every input line is a coefficient list like in the input dialog, see
+ * {@link UtilityClasses#parseCoefficientList(String)}. Empty lines and lines starting with # are skipped.
+ * The lines are read in chunks, every chunk is analysed in parallel and written in the order of the input.
+ * <p>
+ * Usage: java -cp target/classes com.polynomjavafx.BatchAnalysis [--format csv|jsonl] [--integral a b]... [file]
+ * <br>
+ * Without a file the lines are read from the standard input. --integral can be given several times, for every
+ * pair of bounds the signed and the absolute area are written.
+ */
+public final class BatchAnalysis {
+    // Lines analysed together, limits the memory needed for lines and results that wait to be written
+    private static final int CHUNK_SIZE = 4096;
+    private static final String USAGE = "Aufruf: BatchAnalysis [--format csv|jsonl] [--integral a b]... [Datei]";
+
+    public enum Format {CSV, JSONL}
+
+    private final Format format;
+    private final double[] lowerBounds;
+    private final double[] upperBounds;
+
+    /**
+     * @param format format of the output
+     * @param lowerBounds lower bound of each integral that is calculated for every polynomial
+     * @param upperBounds upper bound of each integral, must be as long as lowerBounds
+     */
+    public BatchAnalysis(Format format, double[] lowerBounds, double[] upperBounds) {
+        if (lowerBounds.length != upperBounds.length) {
+            throw new IllegalArgumentException("Every integral needs a lower and an upper bound");
+        }
+        this.format = format;
+        this.lowerBounds = lowerBounds.clone();
+        this.upperBounds = upperBounds.clone();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Format format = Format.CSV;
+        ArrayList<double[]> bounds = new ArrayList<>();
+        String file = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--format" -> format = Format.valueOf(args[++i].toUpperCase());
+                    case "--integral" -> bounds.add(new double[]{Double.parseDouble(args[++i]), Double.parseDouble(args[++i])});
+                    default -> {
+                        if (file != null || args[i].startsWith("--")) {
+                            throw new IllegalArgumentException(args[i]);
+                        }
+                        file = args[i];
+                    }
+                }
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        double[] lowerBounds = bounds.stream().mapToDouble(pair -> pair[0]).toArray();
+        double[] upperBounds = bounds.stream().mapToDouble(pair -> pair[1]).toArray();
+        BatchAnalysis analysis = new BatchAnalysis(format, lowerBounds, upperBounds);
+        InputStream input = System.in;
+        if (file != null) {
+            try {
+                input = new FileInputStream(file);
+            } catch (FileNotFoundException e) {
+                System.err.println("Datei kann nicht gelesen werden: " + file);
+                System.err.println(USAGE);
+                System.exit(2);
+                return;
+            }
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16)) {
+            analysis.run(reader, writer);
+        }
+    }
+
+    /**
+     * Analyses every line of the reader and writes one result per polynomial, lines that can't be parsed
+     * get a result with an error instead of stopping the whole run
+     * @param reader coefficient lists, one per line
+     * @param writer destination of the results, a CSV header is written first
+     */
+    public void run(BufferedReader reader, Writer writer) throws IOException {
+        if (format == Format.CSV) {
+            writer.write(csvHeader());
+        }
+        String[] lines = new String[CHUNK_SIZE];
+        int[] lineNumbers = new int[CHUNK_SIZE];
+        String[] results = new String[CHUNK_SIZE];
+        int lineNumber = 0;
+        int count = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            lines[count] = trimmed;
+            lineNumbers[count] = lineNumber;
+            count++;
+            if (count == CHUNK_SIZE) {
+                writeChunk(lines, lineNumbers, results, count, writer);
+                count = 0;
+            }
+        }
+        writeChunk(lines, lineNumbers, results, count, writer);
+        writer.flush();
+    }
+
+    private void writeChunk(String[] lines, int[] lineNumbers, String[] results, int count, Writer writer) throws IOException {
+        IntStream.range(0, count).parallel().forEach(i -> results[i] = analyse(lineNumbers[i], lines[i]));
+        for (int i = 0; i < count; i++) {
+            writer.write(results[i]);
+            // Don't keep the strings of this chunk alive while the next one is read
+            results[i] = null;
+            lines[i] = null;
+        }
+    }
+
+    /**
+     * @param lineNumber number of the line in the input, starting with 1
+     * @param line coefficient list from the highest exponent to the lowest
+     * @return the result line including the line break, with the reason instead of results if the line is invalid
+     */
+    String analyse(int lineNumber, String line) {
+        Polynomial polynomial;
+        try {
+            polynomial = new Polynomial(UtilityClasses.parseCoefficientList(line));
+        } catch (NumberFormatException | WrongInputSizeException e) {
+            String message = String.valueOf(e.getMessage());
+            return format == Format.CSV ? csvError(lineNumber, message) : jsonError(lineNumber, message);
+        }
+
+        // The analysis keeps the unrounded roots for the integrals, so they are only found once
+        PolynomialAnalysis polynomialAnalysis = polynomial.getAnalysis();
+        ArrayList<Double> roots = polynomialAnalysis.getRoots();
+        ArrayList<double[]> extrema = polynomialAnalysis.getExtrema();
+        ArrayList<double[]> inflections = polynomialAnalysis.getInflections();
+        ArrayList<double[]> saddles = polynomialAnalysis.getSaddles();
+        double[] signedAreas = new double[lowerBounds.length];
+        double[] absoluteAreas = new double[lowerBounds.length];
+        polynomial.integrate(lowerBounds, upperBounds, signedAreas, absoluteAreas);
+        String symmetry = polynomial.isAxisSymmetric() ? "axis" : polynomial.isPointSymmetric() ? "point" : "none";
+
+        StringBuilder builder = new StringBuilder(128);
+        if (format == Format.CSV) {
+            builder.append(lineNumber).append(',').append(polynomial.getDegree()).append(',').append(symmetry).append(',');
+            appendCsvValues(builder, roots);
+            appendCsvPoints(builder.append(','), extrema);
+            appendCsvPoints(builder.append(','), inflections);
+            appendCsvPoints(builder.append(','), saddles);
+            for (int i = 0; i < lowerBounds.length; i++) {
+                builder.append(',').append(signedAreas[i]).append(',').append(absoluteAreas[i]);
+            }
+            return builder.append(",\n").toString();
+        }
+
+        builder.append("{\"line\":").append(lineNumber)
+                .append(",\"degree\":").append(polynomial.getDegree())
+                .append(",\"symmetry\":\"").append(symmetry).append('"');
+        builder.append(",\"roots\":[");
+        for (int i = 0; i < roots.size(); i++) {
+            appendJsonNumber(builder.append(i > 0 ? "," : ""), roots.get(i));
+        }
+        appendJsonPoints(builder.append("],\"extrema\":"), extrema);
+        appendJsonPoints(builder.append(",\"inflections\":"), inflections);
+        appendJsonPoints(builder.append(",\"saddles\":"), saddles);
+        builder.append(",\"integrals\":[");
+        for (int i = 0; i < lowerBounds.length; i++) {
+            builder.append(i > 0 ? ",{\"from\":" : "{\"from\":");
+            appendJsonNumber(builder, lowerBounds[i]).append(",\"to\":");
+            appendJsonNumber(builder, upperBounds[i]).append(",\"signed\":");
+            appendJsonNumber(builder, signedAreas[i]).append(",\"absolute\":");
+            appendJsonNumber(builder, absoluteAreas[i]).append('}');
+        }
+        return builder.append("]}\n").toString();
+    }
+
+    private String csvHeader() {
+        StringBuilder builder = new StringBuilder("line,degree,symmetry,roots,extrema,inflections,saddles");
+        for (int i = 0; i < lowerBounds.length; i++) {
+            builder.append(",signed_").append(i + 1).append(",absolute_").append(i + 1);
+        }
+        return builder.append(",error\n").toString();
+    }
+
+    private String csvError(int lineNumber, String message) {
+        // All columns but the first and the last stay empty
+        int emptyColumns = 6 + 2 * lowerBounds.length;
+        return lineNumber + ",".repeat(emptyColumns) + ",\"" + message.replace("\"", "\"\"") + "\"\n";
+    }
+
+    private static String jsonError(int lineNumber, String message) {
+        return "{\"line\":" + lineNumber + ",\"error\":\"" + message.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}\n";
+    }
+
+    private static void appendCsvValues(StringBuilder builder, ArrayList<Double> values) {
+        // Values of one column are separated by spaces, so the column doesn't need quotes
+        for (int i = 0; i < values.size(); i++) {
+            builder.append(i > 0 ? " " : "").append(values.get(i));
+        }
+    }
+
+    private static void appendCsvPoints(StringBuilder builder, ArrayList<double[]> points) {
+        // Points are written as x:y
+        for (int i = 0; i < points.size(); i++) {
+            builder.append(i > 0 ? " " : "").append(points.get(i)[0]).append(':').append(points.get(i)[1]);
+        }
+    }
+
+    private static void appendJsonPoints(StringBuilder builder, ArrayList<double[]> points) {
+        builder.append('[');
+        for (int i = 0; i < points.size(); i++) {
+            appendJsonNumber(builder.append(i > 0 ? ",[" : "["), points.get(i)[0]).append(',');
+            appendJsonNumber(builder, points.get(i)[1]).append(']');
+        }
+        builder.append(']');
+    }
+
+    private static StringBuilder appendJsonNumber(StringBuilder builder, double value) {
+        // JSON has no NaN or Infinity
+        return Double.isFinite(value) ? builder.append(value) : builder.append("null");
+    }
+}
@@ -0,0 +1,146 @@
+package com.polynomjavafx;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Finds the curve next to a point on the canvas without evaluating a polynomial. The canvas is split into columns
+ * a few pixels wide, and every column stores the lowest and highest y-coordinate of each drawn polyline that
+ * passes through it. A lookup only checks the column under the point and its neighbours, so the cost doesn't
+ * depend on the degrees or on the number of samples, only on how many curves pass through these columns.
+ * <p>
+ * The index is filled with the same canvas coordinates the curves are stroked with, so a hit is always on the
+ * visible curve
+ */
+final class CurveHitIndex {
+    // Width of a column in pixels
+    static final int COLUMN_WIDTH = 4;
+    private static final int INITIAL_BUCKET_SIZE = 4;
+
+    private final ArrayList<Polynomial> curves = new ArrayList<>();
+    private int columnCount;
+    // Per column the curves passing through it with their lowest and highest y-coordinate, in the order they were added
+    private int[][] bucketCurves = new int[0][];
+    private float[][] bucketMins = new float[0][];
+    private float[][] bucketMaxs = new float[0][];
+    private int[] bucketSizes = new int[0];
+    // Extent of the curve that is added at the moment, NaN in the columns it doesn't pass through
+    private float[] curveMins = new float[0];
+    private float[] curveMaxs = new float[0];
+
+    /**
+     * Removes all curves, needed whenever the curves are drawn again
+     * @param width width of the canvas in pixels
+     */
+    void reset(double width) {
+        curves.clear();
+        int columns = Math.max(1, (int) Math.ceil(width / COLUMN_WIDTH));
+        if (columns != columnCount) {
+            columnCount = columns;
+            bucketCurves = new int[columns][INITIAL_BUCKET_SIZE];
+            bucketMins = new float[columns][INITIAL_BUCKET_SIZE];
+            bucketMaxs = new float[columns][INITIAL_BUCKET_SIZE];
+            bucketSizes = new int[columns];
+            curveMins = new float[columns];
+            curveMaxs = new float[columns];
+        } else {
+            // The buckets keep their capacity, so redrawing the same curves doesn't allocate anything
+            Arrays.fill(bucketSizes, 0);
+        }
+    }
+
+    /**
+     * Adds a drawn curve, curves added later are on top of the earlier ones
+     * @param polynomial the curve
+     * @param xs x-coordinates of the polyline on the canvas in ascending order
+     * @param ys y-coordinates of the polyline on the canvas
+     * @param count number of points of the polyline
+     */
+    void add(Polynomial polynomial, double[] xs, double[] ys, int count) {
+        int curve = curves.size();
+        curves.add(polynomial);
+        Arrays.fill(curveMins, Float.NaN);
+        Arrays.fill(curveMaxs, Float.NaN);
+        for (int i = 1; i < count; i++) {
+            addSegment(xs[i - 1], ys[i - 1], xs[i], ys[i]);
+        }
+        for (int column = 0; column < columnCount; column++) {
+            if (!Float.isNaN(curveMins[column])) {
+                addToBucket(column, curve, curveMins[column], curveMaxs[column]);
+            }
+        }
+    }
+
+    /**
+     * Finds the curve closest to a point
+     * @param x x-coordinate on the canvas
+     * @param y y-coordinate on the canvas
+     * @param tolerance largest distance in pixels a curve may have
+     * @return the closest curve, the topmost one if several are equally close, or null if there is none
+     */
+    Polynomial find(double x, double y, double tolerance) {
+        int first = Math.max(0, (int) Math.floor((x - tolerance) / COLUMN_WIDTH));
+        int last = Math.min(columnCount - 1, (int) Math.floor((x + tolerance) / COLUMN_WIDTH));
+        int bestCurve = -1;
+        double bestDistance = tolerance;
+        for (int column = first; column <= last; column++) {
+            // Horizontal distance to the column, 0 for the column under the point
+            double columnLeft = column * (double) COLUMN_WIDTH;
+            double dx = Math.max(0, Math.max(columnLeft - x, x - (columnLeft + COLUMN_WIDTH)));
+            int[] bucket = bucketCurves[column];
+            float[] mins = bucketMins[column];
+            float[] maxs = bucketMaxs[column];
+            for (int i = 0; i < bucketSizes[column]; i++) {
+                double dy = y < mins[i] ? mins[i] - y : y > maxs[i] ? y - maxs[i] : 0;
+                double distance = Math.hypot(dx, dy);
+                if (distance < bestDistance || (distance == bestDistance && bucket[i] > bestCurve)) {
+                    bestDistance = distance;
+                    bestCurve = bucket[i];
+                }
+            }
+        }
+        return bestCurve >= 0 ? curves.get(bestCurve) : null;
+    }
+
+    private void addSegment(double x0, double y0, double x1, double y1) {
+        if (!Double.isFinite(y0) || !Double.isFinite(y1)) {
+            return;
+        }
+        int first = Math.max(0, (int) Math.floor(Math.min(x0, x1) / COLUMN_WIDTH));
+        int last = Math.min(columnCount - 1, (int) Math.floor(Math.max(x0, x1) / COLUMN_WIDTH));
+        for (int column = first; column <= last; column++) {
+            // Only the part of the segment inside the column, a long straight segment must not widen every column
+            double left = Math.max(Math.min(x0, x1), column * (double) COLUMN_WIDTH);
+            double right = Math.min(Math.max(x0, x1), (column + 1) * (double) COLUMN_WIDTH);
+            // A vertical segment covers its whole height
+            double yLeft = x0 == x1 ? y0 : interpolate(x0, y0, x1, y1, left);
+            double yRight = x0 == x1 ? y1 : interpolate(x0, y0, x1, y1, right);
+            float min = (float) Math.min(yLeft, yRight);
+            float max = (float) Math.max(yLeft, yRight);
+            if (Float.isNaN(curveMins[column])) {
+                curveMins[column] = min;
+                curveMaxs[column] = max;
+            } else {
+                curveMins[column] = Math.min(curveMins[column], min);
+                curveMaxs[column] = Math.max(curveMaxs[column], max);
+            }
+        }
+    }
+
+    private static double interpolate(double x0, double y0, double x1, double y1, double x) {
+        return y0 + (y1 - y0) * (x - x0) / (x1 - x0);
+    }
+
+    private void addToBucket(int column, int curve, float min, float max) {
+        int size = bucketSizes[column];
+        if (size == bucketCurves[column].length) {
+            bucketCurves[column] = Arrays.copyOf(bucketCurves[column], 2 * size);
+            bucketMins[column] = Arrays.copyOf(bucketMins[column], 2 * size);
+            bucketMaxs[column] = Arrays.copyOf(bucketMaxs[column], 2 * size);
+        }
+        bucketCurves[column][size] = curve;
+        bucketMins[column][size] = min;
+        bucketMaxs[column][size] = max;
+        bucketSizes[column] = size + 1;
+    }
+}
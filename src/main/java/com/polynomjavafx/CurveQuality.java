@@ -0,0 +1,21 @@
+package com.polynomjavafx;
+
+/**
+ * Quality settings for drawing curves. The tolerance is the largest distance in pixels that a drawn line
+ * segment may deviate from the real curve, a bigger tolerance needs fewer function values and line segments
+ */
+public enum CurveQuality {
+    FAST(1.0),
+    BALANCED(0.25),
+    PRECISE(0.05);
+
+    private final double tolerance;
+
+    CurveQuality(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+}
@@ -0,0 +1,177 @@
+package com.polynomjavafx;
+
+import java.util.Arrays;
+
+/**
+ * Samples a polynomial in canvas coordinates for drawing it as line segments. The curve is first evaluated
+ * on a coarse grid, then every grid interval is divided into thirds as long as the curve deviates more than
+ * the tolerance of the {@link CurveQuality} from the straight segment. Nearly straight parts are drawn with
+ * few segments, steep and strongly curved parts get points even between two pixel columns.
+ * The grid is aligned to the origin and the intervals are kept in {@link CurveSamples}, so after scrolling only
+ * the newly visible intervals are sampled. Every curve has its own sampler, so several curves can be sampled
+ * in parallel, and the buffers are reused for every redraw
+ */
+final class CurveSampler {
+    // Distance in pixels between the points of the coarse grid
+    private static final double INITIAL_STEP = 8.0;
+    // Every level divides an interval into thirds: 8 / 3^5 is about 1/30 pixel
+    private static final int MAX_DEPTH = 5;
+
+    private double tolerance = CurveQuality.BALANCED.getTolerance();
+    private double[] xs = new double[0];
+    private double[] ys = new double[0];
+    private double[] gridValues = new double[0];
+    private int size;
+    // Intervals of the curve that were sampled before
+    private final CurveSamples samples = new CurveSamples();
+
+    // Curve that is currently sampled. Inside the sampler, coordinates are relative to the origin, scaled to
+    // pixels and y points upwards
+    private Polynomial polynomial;
+    private int currentSlot;
+    private double xScale;
+    private double yScale;
+    private double viewTop;
+    private double viewBottom;
+
+    void setQuality(CurveQuality quality) {
+        this.tolerance = quality.getTolerance();
+    }
+
+    /**
+     * Drops the stored intervals, e.g. after the size of the canvas changed
+     */
+    void invalidate() {
+        samples.invalidate();
+    }
+
+    /**
+     * Samples the polynomial over the full width of the canvas and reuses the intervals that are still stored
+     * from the last call
+     * @param polynomial polynomial to sample, always the same for one sampler
+     * @param width width of the canvas in pixels
+     * @param height height of the canvas in pixels
+     * @param originX canvas x-coordinate of the mathematical origin
+     * @param originY canvas y-coordinate of the mathematical origin
+     * @param xScale pixels per unit on the x-axis
+     * @param yScale pixels per unit on the y-axis
+     * @return amount of points, which are available with {@link #getXs()} and {@link #getYs()}
+     */
+    int sample(Polynomial polynomial, double width, double height, double originX, double originY,
+               double xScale, double yScale) {
+        this.polynomial = polynomial;
+        this.xScale = xScale;
+        this.yScale = yScale;
+        this.viewTop = originY;
+        this.viewBottom = originY - height;
+        this.size = 0;
+
+        // Grid intervals that cover the canvas, interval k reaches from k * INITIAL_STEP to (k + 1) * INITIAL_STEP
+        long first = (long) Math.floor(-originX / INITIAL_STEP);
+        long last = (long) Math.ceil((width - originX) / INITIAL_STEP) - 1;
+        // Depending on the position of the origin, up to width / INITIAL_STEP + 1 intervals are visible
+        samples.prepare(xScale, yScale, tolerance, polynomial.getModificationCount(),
+                (int) Math.ceil(width / INITIAL_STEP) + 2);
+
+        for (long index = first; index <= last; index++) {
+            if (!samples.isCached(index, viewTop, viewBottom)) {
+                // Evaluate the grid points of all missing intervals in a row with one call
+                long end = index;
+                while (end < last && !samples.isCached(end + 1, viewTop, viewBottom)) {
+                    end++;
+                }
+                sampleIntervals(index, end);
+            }
+            int slot = samples.slotOf(index);
+            if (index == first) {
+                add(index * INITIAL_STEP + originX, originY - samples.startYs[slot]);
+            }
+            double[] slotXs = samples.xs[slot];
+            double[] slotYs = samples.ys[slot];
+            for (int i = 0; i < samples.sizes[slot]; i++) {
+                add(slotXs[i] + originX, originY - slotYs[i]);
+            }
+        }
+        return size;
+    }
+
+    double[] getXs() {
+        return xs;
+    }
+
+    double[] getYs() {
+        return ys;
+    }
+
+    /**
+     * Samples the grid intervals from first to last and stores them in their slots
+     */
+    private void sampleIntervals(long first, long last) {
+        int gridCount = (int) (last - first + 2);
+        if (gridValues.length < gridCount) {
+            gridValues = new double[gridCount];
+        }
+        polynomial.evaluateRange(first * INITIAL_STEP / xScale, INITIAL_STEP / xScale, gridCount, gridValues);
+
+        for (int i = 0; i < gridCount - 1; i++) {
+            double x0 = (first + i) * INITIAL_STEP;
+            double y0 = gridValues[i] * yScale;
+            currentSlot = samples.beginSlot(first + i, y0);
+            subdivide(x0, y0, x0 + INITIAL_STEP, gridValues[i + 1] * yScale, 0);
+        }
+    }
+
+    /**
+     * Adds the points of the interval after its start point. Checking the points at a third and two thirds
+     * also detects an S-shaped curve whose middle lies exactly on the segment
+     */
+    private void subdivide(double x0, double y0, double x3, double y3, int depth) {
+        double dx = (x3 - x0) / 3.0;
+        double x1 = x0 + dx;
+        double x2 = x1 + dx;
+        double y1 = polynomial.functionValue(x1 / xScale) * yScale;
+        double y2 = polynomial.functionValue(x2 / xScale) * yScale;
+
+        double lowest = Math.min(Math.min(y0, y1), Math.min(y2, y3));
+        double highest = Math.max(Math.max(y0, y1), Math.max(y2, y3));
+        if (lowest > viewTop) {
+            samples.addPrunedAbove(currentSlot, lowest);
+            samples.add(currentSlot, x3, y3);
+            return;
+        }
+        if (highest < viewBottom) {
+            samples.addPrunedBelow(currentSlot, highest);
+            samples.add(currentSlot, x3, y3);
+            return;
+        }
+        if (depth >= MAX_DEPTH || (distanceToSegment(x0, y0, x3, y3, x1, y1) <= tolerance
+                && distanceToSegment(x0, y0, x3, y3, x2, y2) <= tolerance)) {
+            samples.add(currentSlot, x3, y3);
+            return;
+        }
+        subdivide(x0, y0, x1, y1, depth + 1);
+        subdivide(x1, y1, x2, y2, depth + 1);
+        subdivide(x2, y2, x3, y3, depth + 1);
+    }
+
+    /**
+     * Distance of the point (x, y) to the line through (x0, y0) and (x1, y1), infinite if a value overflowed
+     */
+    private static double distanceToSegment(double x0, double y0, double x1, double y1, double x, double y) {
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        double distance = Math.abs(dx * (y - y0) - dy * (x - x0)) / Math.hypot(dx, dy);
+        return Double.isNaN(distance) ? Double.POSITIVE_INFINITY : distance;
+    }
+
+    private void add(double x, double y) {
+        if (size == xs.length) {
+            int capacity = Math.max(64, xs.length * 2);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+}
@@ -0,0 +1,124 @@
+package com.polynomjavafx;
+
+import java.util.Arrays;
+
+/**
+ * Ring buffer with the sampled points of one polynomial, one slot per interval of the coarse grid of the
+ * {@link CurveSampler}. The points are stored relative to the origin and scaled to pixels, so they stay valid
+ * when the view is scrolled and only the intervals that scroll into view have to be sampled. The samples
+ * belong to one scale, quality and set of coefficients, a change of one of them empties the buffer
+ */
+final class CurveSamples {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private double xScale = Double.NaN;
+    private double yScale = Double.NaN;
+    private double tolerance = Double.NaN;
+    private int modificationCount = -1;
+
+    // Grid index of the interval in each slot, EMPTY if the slot holds no interval
+    private long[] keys = new long[0];
+    // Scaled y-coordinate of the start point of each interval
+    double[] startYs = new double[0];
+    // Points of each interval after its start point, ordered by ascending x-coordinate
+    double[][] xs = new double[0][];
+    double[][] ys = new double[0][];
+    int[] sizes = new int[0];
+    // Parts that weren't subdivided because they were above or below the view: the lowest scaled y-coordinate of
+    // the parts above and the highest of the parts below, so it is known when one of them scrolls into view
+    private double[] prunedAboveYs = new double[0];
+    private double[] prunedBelowYs = new double[0];
+
+    /**
+     * Empties the buffer if the samples were taken with a different scale, quality or coefficients, and makes
+     * sure it has enough slots for the visible intervals
+     * @param capacity amount of intervals that are visible at the same time
+     */
+    void prepare(double xScale, double yScale, double tolerance, int modificationCount, int capacity) {
+        if (xScale != this.xScale || yScale != this.yScale || tolerance != this.tolerance
+                || modificationCount != this.modificationCount || capacity > keys.length) {
+            this.xScale = xScale;
+            this.yScale = yScale;
+            this.tolerance = tolerance;
+            this.modificationCount = modificationCount;
+            if (capacity > keys.length) {
+                keys = new long[capacity];
+                startYs = new double[capacity];
+                xs = new double[capacity][16];
+                ys = new double[capacity][16];
+                sizes = new int[capacity];
+                prunedAboveYs = new double[capacity];
+                prunedBelowYs = new double[capacity];
+            }
+            invalidate();
+        }
+    }
+
+    /**
+     * Removes all samples, e.g. after the size of the canvas changed
+     */
+    void invalidate() {
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * @param index grid index of the interval
+     * @return the slot of the interval in the ring buffer
+     */
+    int slotOf(long index) {
+        return (int) Math.floorMod(index, (long) keys.length);
+    }
+
+    /**
+     * Checks whether the slot holds the interval and no pruned part of it has become visible
+     * @param viewTop scaled y-coordinate of the top border of the view
+     * @param viewBottom scaled y-coordinate of the bottom border of the view
+     */
+    boolean isCached(long index, double viewTop, double viewBottom) {
+        int slot = slotOf(index);
+        if (keys[slot] != index) {
+            return false;
+        }
+        return prunedAboveYs[slot] > viewTop && prunedBelowYs[slot] < viewBottom;
+    }
+
+    /**
+     * Starts to fill the slot of an interval, its old content is dropped
+     */
+    int beginSlot(long index, double startY) {
+        int slot = slotOf(index);
+        keys[slot] = index;
+        startYs[slot] = startY;
+        sizes[slot] = 0;
+        prunedAboveYs[slot] = Double.POSITIVE_INFINITY;
+        prunedBelowYs[slot] = Double.NEGATIVE_INFINITY;
+        return slot;
+    }
+
+    void add(int slot, double x, double y) {
+        int size = sizes[slot];
+        if (size == xs[slot].length) {
+            xs[slot] = Arrays.copyOf(xs[slot], size * 2);
+            ys[slot] = Arrays.copyOf(ys[slot], size * 2);
+        }
+        xs[slot][size] = x;
+        ys[slot][size] = y;
+        sizes[slot] = size + 1;
+    }
+
+    /**
+     * Remembers that a part of the interval above the view wasn't subdivided
+     * @param lowestY lowest scaled y-coordinate of the part
+     */
+    void addPrunedAbove(int slot, double lowestY) {
+        prunedAboveYs[slot] = Math.min(prunedAboveYs[slot], lowestY);
+    }
+
+    /**
+     * Remembers that a part of the interval below the view wasn't subdivided
+     * @param highestY highest scaled y-coordinate of the part
+     */
+    void addPrunedBelow(int slot, double highestY) {
+        prunedBelowYs[slot] = Math.max(prunedBelowYs[slot], highestY);
+    }
+}
@@ -0,0 +1,94 @@
+package com.polynomjavafx;
+
+import java.util.Arrays;
+
+/**
+ * Polygon of the area between a curve and the x-axis, in canvas coordinates, so the shaded integral is drawn
+ * with a single fill. The polygon is only built again when the bounds, the polynomial or the view change
+ */
+final class IntegralShape {
+    private double[] xs = new double[0];
+    private double[] ys = new double[0];
+    private double[] values = new double[0];
+    private int size;
+
+    // Everything the polygon depends on, the polygon is valid as long as none of them changes
+    private Polynomial polynomial;
+    private int modificationCount;
+    private final double[] key = new double[8];
+
+    /**
+     * Returns the polygon of the visible part of the area, the last one if nothing changed since
+     * @param polynomial curve that bounds the area
+     * @param start left bound of the area
+     * @param end right bound of the area
+     * @param width width of the canvas in pixels
+     * @param height height of the canvas in pixels
+     * @param originX canvas x-coordinate of the mathematical origin
+     * @param originY canvas y-coordinate of the mathematical origin
+     * @param xScale pixels per unit on the x-axis
+     * @param yScale pixels per unit on the y-axis
+     * @return amount of corners, which are available with {@link #getXs()} and {@link #getYs()}
+     */
+    int update(Polynomial polynomial, double start, double end, double width, double height, double originX,
+               double originY, double xScale, double yScale) {
+        double[] newKey = {start, end, width, height, originX, originY, xScale, yScale};
+        if (polynomial == this.polynomial && polynomial.getModificationCount() == modificationCount
+                && Arrays.equals(newKey, key)) {
+            return size;
+        }
+        this.polynomial = polynomial;
+        this.modificationCount = polynomial.getModificationCount();
+        System.arraycopy(newKey, 0, key, 0, key.length);
+        build(start, end, width, height, originX, originY, xScale, yScale);
+        return size;
+    }
+
+    double[] getXs() {
+        return xs;
+    }
+
+    double[] getYs() {
+        return ys;
+    }
+
+    private void build(double start, double end, double width, double height, double originX, double originY,
+                       double xScale, double yScale) {
+        size = 0;
+        // Only the visible columns between the bounds are part of the polygon
+        double left = Math.max(0.0, start * xScale + originX);
+        double right = Math.min(width, end * xScale + originX);
+        if (!(left < right)) {
+            return;
+        }
+        int count = (int) Math.ceil(right - left) + 1;
+        double step = (right - left) / (count - 1);
+        if (values.length < count) {
+            values = new double[count];
+            xs = new double[count + 2];
+            ys = new double[count + 2];
+        }
+        polynomial.evaluateRange((left - originX) / xScale, step / xScale, count, values);
+
+        // From the x-axis along the curve back to the x-axis, the closing edge is added by the fill
+        double zeroLine = clamp(originY, height);
+        add(left, zeroLine);
+        for (int i = 0; i < count; i++) {
+            add(left + i * step, clamp(originY - values[i] * yScale, height));
+        }
+        add(right, zeroLine);
+    }
+
+    /**
+     * Limits a canvas y-coordinate to the visible height plus one pixel, the polygon doesn't need to reach further
+     */
+    private static double clamp(double canvasY, double height) {
+        return Math.max(-1.0, Math.min(height + 1.0, canvasY));
+    }
+
+    private void add(double x, double y) {
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+}
@@ -0,0 +1,162 @@
+package com.polynomjavafx;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Finds every distinct real root exactly once. Between two neighbouring roots of the derivative the polynomial
+ * is monotonic (Rolle's theorem), so the roots of the derivative, found recursively, and Fujiwara's root bound
+ * split the real axis into disjoint intervals that each contain at most one root. A root lies inside an
+ * interval if the signs at its ends differ and is then found with the Illinois variant of regula falsi.
+ * Roots of even multiplicity don't change the sign, they are roots of the derivative where the polynomial
+ * vanishes as well.
+ * The recursion costs O(n³), so above {@link #MAX_DEGREE} the real roots are taken from the
+ * {@link AberthRootSolver} instead
+ */
+public class IsolatingRootSolver implements RootSolver {
+    static final int MAX_DEGREE = 64;
+    private static final double EPSILON = Math.ulp(1.0);
+    private static final int MAX_REFINE_ITERATIONS = 200;
+
+    private final AberthRootSolver fallbackSolver = new AberthRootSolver();
+
+    @Override
+    public ArrayList<Double> findRealRoots(double[] coefficients) {
+        int degree = Polynomial.getDegree(coefficients);
+        if (degree > MAX_DEGREE) {
+            return fallbackSolver.findRealRoots(coefficients);
+        }
+        return isolateRoots(Arrays.copyOf(coefficients, degree + 1));
+    }
+
+    @Override
+    public ArrayList<double[]> findComplexRoots(double[] coefficients) {
+        // The isolation only works along the real axis
+        return fallbackSolver.findComplexRoots(coefficients);
+    }
+
+    /**
+     * @param polynomial coefficients without zeros above the leading coefficient
+     * @return the distinct real roots in ascending order
+     */
+    private static ArrayList<Double> isolateRoots(double[] polynomial) {
+        ArrayList<Double> roots = new ArrayList<>();
+        int degree = polynomial.length - 1;
+        if (degree < 1) {
+            return roots;
+        }
+
+        // A root at 0 is known exactly from the zero coefficients: a_k x^k + ... = x^k (a_k + ...)
+        int lowest = 0;
+        while (polynomial[lowest] == 0.0) {
+            lowest++;
+        }
+        if (lowest > 0) {
+            ArrayList<Double> otherRoots = isolateRoots(Arrays.copyOfRange(polynomial, lowest, degree + 1));
+            otherRoots.add(0.0);
+            Collections.sort(otherRoots);
+            return otherRoots;
+        }
+        if (degree == 1) {
+            roots.add(-polynomial[0] / polynomial[1]);
+            return roots;
+        }
+
+        // The roots of the derivative and the root bound are the borders of the monotonic intervals
+        ArrayList<Double> criticalPoints = isolateRoots(Polynomial.derivationCoefficients(polynomial));
+        double bound = rootBound(polynomial) * 1.01 + Double.MIN_NORMAL;
+        double[] borders = new double[criticalPoints.size() + 2];
+        int size = 0;
+        borders[size++] = -bound;
+        for (double criticalPoint : criticalPoints) {
+            if (criticalPoint > -bound && criticalPoint < bound) {
+                borders[size++] = criticalPoint;
+            }
+        }
+        borders[size++] = bound;
+
+        double[] values = new double[size];
+        boolean[] isRoot = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = Polynomial.functionValue(polynomial, borders[i]);
+            // At a root of the derivative the polynomial may vanish within its rounding error: a multiple root
+            isRoot[i] = i > 0 && i < size - 1 && Math.abs(values[i]) <= roundingError(polynomial, borders[i]);
+        }
+
+        for (int i = 0; i < size; i++) {
+            UtilityClasses.checkInterrupted();
+            if (isRoot[i]) {
+                roots.add(borders[i]);
+            }
+            // Only intervals whose ends aren't roots themselves can contain another root
+            if (i < size - 1 && !isRoot[i] && !isRoot[i + 1] && Math.signum(values[i]) * Math.signum(values[i + 1]) < 0) {
+                roots.add(refine(polynomial, borders[i], borders[i + 1], values[i], values[i + 1]));
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * Bound for the rounding error of Horner's method at x
+     */
+    private static double roundingError(double[] polynomial, double x) {
+        double bound = 0.0;
+        for (int i = polynomial.length - 1; i >= 0; i--) {
+            bound = bound * Math.abs(x) + Math.abs(polynomial[i]);
+        }
+        return 4.0 * polynomial.length * EPSILON * bound;
+    }
+
+    /**
+     * Upper bound for the absolute value of all roots (Fujiwara)
+     */
+    static double rootBound(double[] polynomial) {
+        int n = polynomial.length - 1;
+        double bound = 0.0;
+        for (int k = 1; k <= n; k++) {
+            double ratio = Math.abs(polynomial[n - k] / polynomial[n]);
+            // The constant coefficient is halved in Fujiwara's bound
+            if (k == n) {
+                ratio /= 2.0;
+            }
+            bound = Math.max(bound, Math.pow(ratio, 1.0 / k));
+        }
+        return 2.0 * bound;
+    }
+
+    /**
+     * Illinois method: regula falsi on an interval with a sign change, which halves the value at an end that
+     * was kept twice in a row, so both ends keep moving towards the root
+     */
+    private static double refine(double[] polynomial, double a, double b, double valueA, double valueB) {
+        int lastKept = 0;
+        for (int i = 0; i < MAX_REFINE_ITERATIONS && b - a > 2.0 * EPSILON * Math.max(Math.abs(a), Math.abs(b)); i++) {
+            UtilityClasses.checkInterrupted();
+            double x = (a * valueB - b * valueA) / (valueB - valueA);
+            if (!(x > a && x < b)) {
+                x = 0.5 * (a + b);
+            }
+            double value = Polynomial.functionValue(polynomial, x);
+            if (value == 0.0) {
+                return x;
+            }
+            if (Math.signum(value) == Math.signum(valueA)) {
+                a = x;
+                valueA = value;
+                if (lastKept == 1) {
+                    valueB /= 2.0;
+                }
+                lastKept = 1;
+            } else {
+                b = x;
+                valueB = value;
+                if (lastKept == -1) {
+                    valueA /= 2.0;
+                }
+                lastKept = -1;
+            }
+        }
+        return 0.5 * (a + b);
+    }
+}
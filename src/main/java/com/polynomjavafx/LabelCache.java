@@ -0,0 +1,98 @@
+package com.polynomjavafx;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded cache of formatted label texts and their measured size, so redrawing the same scale labels and points
+ * neither formats the numbers again nor creates a node to measure them. The least recently used labels are
+ * removed first
+ */
+final class LabelCache {
+    // Enough for the labels of several scales and the points of many polynomials
+    private static final int MAX_ENTRIES = 512;
+
+    /**
+     * A formatted text with its size in the font it was measured with
+     */
+    static final class Label {
+        final String text;
+        final double width;
+        final double height;
+
+        private Label(String text, double width, double height) {
+            this.text = text;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    // Scale and point labels are told apart by their kind, no coordinate value is reserved for it
+    private enum Kind {SCALE, POINT}
+
+    private static final class Key {
+        private final Kind kind;
+        private final double x;
+        private final double y;
+        private final Font font;
+
+        private Key(Kind kind, double x, double y, Font font) {
+            this.kind = kind;
+            this.x = x;
+            this.y = y;
+            this.font = font;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return kind == key.kind && Double.compare(x, key.x) == 0 && Double.compare(y, key.y) == 0 && font.equals(key.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, x, y, font);
+        }
+    }
+
+    private final Map<Key, Label> labels = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Label> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    // The only node used for measuring, it is never added to the scene
+    private final Text measuringText = new Text();
+
+    /**
+     * @param value value of the scale, already rounded
+     * @param font font the label is drawn with
+     * @return the label of a scale on an axis, e.g. "2.5"
+     */
+    Label getScaleLabel(double value, Font font) {
+        return labels.computeIfAbsent(new Key(Kind.SCALE, value, 0.0, font), key -> measure(Double.toString(value), font));
+    }
+
+    /**
+     * @param x x-coordinate of the point, already rounded
+     * @param y y-coordinate of the point, already rounded
+     * @param font font the label is drawn with
+     * @return the label of a point, e.g. "(1.5, -2.0)"
+     */
+    Label getPointLabel(double x, double y, Font font) {
+        return labels.computeIfAbsent(new Key(Kind.POINT, x, y, font), key -> measure("(" + x + ", " + y + ")", font));
+    }
+
+    private Label measure(String text, Font font) {
+        measuringText.setFont(font);
+        measuringText.setText(text);
+        return new Label(text, measuringText.getBoundsInLocal().getWidth(), measuringText.getBoundsInLocal().getHeight());
+    }
+}
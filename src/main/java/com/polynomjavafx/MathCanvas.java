@@ -1,21 +1,31 @@
 package com.polynomjavafx;
 
+import javafx.animation.AnimationTimer;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Text;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.IntStream;
 
 public class MathCanvas extends StackPane {
     // Uninitialized Attributes
     Canvas contentLayer;
+    Canvas highlightLayer;
     Canvas coordinateSystemLayer;
     Canvas integralLayer;
     Canvas pointsLayer;
     Canvas previewLayer;
     GraphicsContext contentGC;
+    GraphicsContext highlightGC;
     GraphicsContext coordinateSysGC;
     GraphicsContext integralGC;
     GraphicsContext pointsGC;
@@ -32,9 +42,52 @@ public class MathCanvas extends StackPane {
     double DEFAULT_CELL_AMOUNT;
 
     // Initialized Attributes
-    ArrayList<Polynomial> polynomialArray = new ArrayList<>(10);
+    // The drawn curves with their IDs, also used by the selection of the controller
+    final PolynomialRegistry polynomialRegistry = new PolynomialRegistry();
     ArrayList<double[]> pointsArray = new ArrayList<>();
-    private final double[]  previewPoint = new double[2];
+    // Hovered curve and canvas x-coordinate, the point is only calculated when the preview is drawn
+    private Polynomial previewPolynomial;
+    private double previewCanvasX;
+    // Area of the last drawn preview point and its label: x, y, width, height. Only this part is cleared again
+    private final double[] previewBounds = new double[4];
+    private final IntegralShape integralShape = new IntegralShape();
+    private final PolylineBuilder polylineBuilder = new PolylineBuilder();
+    // Sampler with the sampled intervals of every drawn polynomial, entries of removed polynomials disappear with them
+    private final Map<Polynomial, CurveSampler> curveSamplers = new WeakHashMap<>();
+    private CurveQuality curveQuality = CurveQuality.BALANCED;
+    private final LabelCache labelCache = new LabelCache();
+    // Column buckets of the drawn polylines, finds the curve under the mouse without evaluating the polynomials
+    private final CurveHitIndex hitIndex = new CurveHitIndex();
+    // Largest distance in pixels between the mouse and a curve that still hits it
+    private static final double HIT_TOLERANCE = 8.0;
+    private Polynomial highlightedPolynomial;
+
+    // Rendering is done at most once per pulse, the handlers only mark the layers that have to be redrawn
+    private final AnimationTimer renderTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            render();
+        }
+    };
+    private final EnumMap<Layer, Runnable> layerRenderers = new EnumMap<>(Layer.class);
+    private final EnumSet<Layer> dirtyLayers = EnumSet.noneOf(Layer.class);
+    // Curves that only have to be drawn on top of the content layer, e.g. after they were added
+    private final ArrayList<Polynomial> dirtyPolynomials = new ArrayList<>();
+    private boolean showPreviewPoint;
+    private Color previewColor = Color.BLACK;
+
+    /**
+     * The layers of the canvas, from bottom to top
+     */
+    public enum Layer {
+        CONTENT,
+        HIGHLIGHT,
+        COORDINATE_SYSTEM,
+        INTEGRAL,
+        POINTS,
+        PREVIEW
+    }
 
 
 
@@ -43,6 +96,7 @@ public class MathCanvas extends StackPane {
         super();
         //Layers
         this.contentLayer = new Canvas();
+        this.highlightLayer = new Canvas();
         this.coordinateSystemLayer = new Canvas();
         this.integralLayer = new Canvas();
         this.pointsLayer = new Canvas();
@@ -50,6 +104,7 @@ public class MathCanvas extends StackPane {
 
         //GCs for drawing to layers
         this.contentGC = contentLayer.getGraphicsContext2D();
+        this.highlightGC = highlightLayer.getGraphicsContext2D();
         this.coordinateSysGC = coordinateSystemLayer.getGraphicsContext2D();
         this.integralGC = integralLayer.getGraphicsContext2D();
         this.pointsGC = pointsLayer.getGraphicsContext2D();
@@ -57,6 +112,7 @@ public class MathCanvas extends StackPane {
 
         //Add layers to stack pane
         this.getChildren().add(contentLayer);
+        this.getChildren().add(highlightLayer);
         this.getChildren().add(coordinateSystemLayer);
         this.getChildren().add(integralLayer);
         this.getChildren().add(pointsLayer);
@@ -77,6 +133,7 @@ public class MathCanvas extends StackPane {
             double newWidth = (double) newValue;
             coordinateSystemLayer.setWidth((newWidth));
             contentLayer.setWidth(newWidth);
+            highlightLayer.setWidth(newWidth);
             integralLayer.setWidth(newWidth);
             pointsLayer.setWidth(newWidth);
             previewLayer.setWidth(newWidth);
@@ -90,7 +147,8 @@ public class MathCanvas extends StackPane {
             this.yScale = xScale;
             cellSize = xScale;
             updateCellSize();
-            drawCoordinateSystem();
+            invalidateSamples();
+            requestViewRedraw();
         });
 
         this.heightProperty().addListener(((observable, oldValue, newValue )-> {
@@ -98,13 +156,15 @@ public class MathCanvas extends StackPane {
 
             coordinateSystemLayer.setHeight(newHeight);
             contentLayer.setHeight(newHeight);
+            highlightLayer.setHeight(newHeight);
             integralLayer.setHeight(newHeight);
             pointsLayer.setHeight(newHeight);
             previewLayer.setHeight(newHeight);
 
 
             updateCellSize();
-            drawCoordinateSystem();
+            invalidateSamples();
+            requestViewRedraw();
         } ));
 
         // values that represent the space scrolled on the canvas in pixels
@@ -120,7 +180,7 @@ public class MathCanvas extends StackPane {
      */
     public void setShowAxis(boolean showAxis) {
         this.showAxis = showAxis;
-        drawCoordinateSystem();
+        invalidate(Layer.COORDINATE_SYSTEM);
     }
 
     /**
@@ -129,7 +189,7 @@ public class MathCanvas extends StackPane {
      */
     public void setShowGrid(boolean showGrid) {
         this.showGrid = showGrid;
-        drawCoordinateSystem();
+        invalidate(Layer.COORDINATE_SYSTEM);
     }
 
     /**
@@ -138,7 +198,155 @@ public class MathCanvas extends StackPane {
      */
     public void setShowScales(boolean showScales) {
         this.showScales = showScales;
-        drawCoordinateSystem();
+        invalidate(Layer.COORDINATE_SYSTEM);
+    }
+
+    /**
+     * Set how exactly curves are drawn, see {@link CurveQuality}
+     * @param quality quality to use for the next drawn curves
+     */
+    public void setCurveQuality(CurveQuality quality) {
+        curveQuality = quality;
+        for (CurveSampler sampler : curveSamplers.values()) {
+            sampler.setQuality(quality);
+        }
+        invalidateSamples();
+    }
+
+    // Render Scheduling
+
+    /**
+     * Set what is drawn onto a layer when it was invalidated. The content, coordinate system and preview layers
+     * are drawn by the canvas itself
+     * @param layer layer to draw
+     * @param renderer draws onto the cleared layer
+     */
+    public void setLayerRenderer(Layer layer, Runnable renderer) {
+        layerRenderers.put(layer, renderer);
+    }
+
+    /**
+     * Marks layers as outdated, they are cleared and redrawn with the next pulse
+     * @param layers layers to redraw
+     */
+    public void invalidate(Layer... layers) {
+        dirtyLayers.addAll(Arrays.asList(layers));
+        scheduleRender();
+    }
+
+    /**
+     * Marks a single curve as outdated that only has to be drawn on top of the others, e.g. after it was added.
+     * Removed or changed curves need the whole content layer to be invalidated instead
+     * @param polynomial curve to draw
+     */
+    public void invalidatePolynomial(Polynomial polynomial) {
+        if (!dirtyPolynomials.contains(polynomial)) {
+            dirtyPolynomials.add(polynomial);
+        }
+        scheduleRender();
+    }
+
+    /**
+     * Shows the point of the curve at a canvas x-coordinate. Many calls within one pulse, e.g. while the mouse
+     * moves, only lead to one calculation and one drawing with the next pulse
+     * @param polynomial hovered curve
+     * @param canvasX x-coordinate on the canvas
+     * @param color color of the preview point
+     */
+    public void requestPreviewPoint(Polynomial polynomial, double canvasX, Color color) {
+        previewPolynomial = polynomial;
+        previewCanvasX = canvasX;
+        previewColor = color;
+        showPreviewPoint = true;
+        invalidate(Layer.PREVIEW);
+    }
+
+    /**
+     * Draws a curve thicker on top of the others, e.g. while the mouse is over it
+     * @param polynomial curve to highlight, null to remove the highlight
+     */
+    public void setHighlightedPolynomial(Polynomial polynomial) {
+        if (polynomial != highlightedPolynomial) {
+            highlightedPolynomial = polynomial;
+            invalidate(Layer.HIGHLIGHT);
+        }
+    }
+
+    /**
+     * Finds the drawn curve closest to a point on the canvas, only the samples of the last drawing are used
+     * @param canvasX x-coordinate on the canvas
+     * @param canvasY y-coordinate on the canvas
+     * @return the closest curve, the topmost if several are equally close, or null if no curve is near the point
+     */
+    public Polynomial findPolynomialAt(double canvasX, double canvasY) {
+        Polynomial polynomial = hitIndex.find(canvasX, canvasY, HIT_TOLERANCE);
+        // Removed curves stay in the index until the content layer is drawn again
+        return polynomial != null && polynomialRegistry.contains(polynomial) ? polynomial : null;
+    }
+
+    /**
+     * Marks all layers as outdated after the visible area changed
+     */
+    private void requestViewRedraw() {
+        invalidate(Layer.values());
+    }
+
+    private void scheduleRender() {
+        // Starting a running timer has no effect, so many events within one pulse lead to one render
+        renderTimer.start();
+    }
+
+    /**
+     * Redraws everything that was marked as outdated since the last pulse
+     */
+    private void render() {
+        EnumSet<Layer> layers = EnumSet.copyOf(dirtyLayers);
+        dirtyLayers.clear();
+        // The highlighted curve might have been changed or removed together with the content
+        if (layers.contains(Layer.CONTENT)) {
+            layers.add(Layer.HIGHLIGHT);
+        }
+        for (Layer layer : layers) {
+            Canvas canvas = getLayer(layer);
+            // The preview layer only clears the area of its last point, see drawPreviewPoint()
+            if (layer != Layer.PREVIEW) {
+                canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            }
+            switch (layer) {
+                case CONTENT -> {
+                    hitIndex.reset(contentLayer.getWidth());
+                    drawPolynomials(polynomialRegistry.getPolynomials());
+                }
+                case HIGHLIGHT -> drawHighlight();
+                case COORDINATE_SYSTEM -> drawCoordinateSystem();
+                case PREVIEW -> {
+                    if (showPreviewPoint) {
+                        drawPreviewPoint(previewColor);
+                    } else {
+                        clearPreviewArea();
+                    }
+                }
+                default -> layerRenderers.getOrDefault(layer, () -> {}).run();
+            }
+        }
+
+        // Single curves are only drawn if the content layer wasn't redrawn completely anyway
+        if (!layers.contains(Layer.CONTENT)) {
+            dirtyPolynomials.removeIf(polynomial -> !polynomialRegistry.contains(polynomial));
+            drawPolynomials(dirtyPolynomials);
+        }
+        dirtyPolynomials.clear();
+    }
+
+    private Canvas getLayer(Layer layer) {
+        return switch (layer) {
+            case CONTENT -> contentLayer;
+            case HIGHLIGHT -> highlightLayer;
+            case COORDINATE_SYSTEM -> coordinateSystemLayer;
+            case INTEGRAL -> integralLayer;
+            case POINTS -> pointsLayer;
+            case PREVIEW -> previewLayer;
+        };
     }
 
     // Draw Methods (alphanumeric ascending)
@@ -195,20 +403,20 @@ public class MathCanvas extends StackPane {
                 if (showScales) {
                     //Draw the label for the current y-Coordinate
                     double label = canvasYCoordinateToMathYCoordinate(yCoordinate);
-                    drawYAxisLabel(Double.toString(label), yCoordinate);
+                    drawYAxisLabel(label, yCoordinate);
                 }
             }
         }
     }
 
     public void drawIntegral(double x1, double x2, Polynomial polynomial) {
-        integralGC.setStroke(Color.BLUE);
-        double stepSize = (integralLayer.getWidth() / xScale) / integralLayer.getWidth();
-        for (double start = Math.min(x1, x2); start < Math.max(x1, x2); start += stepSize) {
-            integralGC.strokeLine(mathXCoordinateToCanvasXCoordinate(start),
-                    mathYCoordinateToCanvasYCoordinate(0.0),
-                    mathXCoordinateToCanvasXCoordinate(start),
-                    mathYCoordinateToCanvasYCoordinate(polynomial.functionValue(start)));
+        //The polygon is only built again if the bounds, the polynomial or the view changed
+        int count = integralShape.update(polynomial, Math.min(x1, x2), Math.max(x1, x2), integralLayer.getWidth(),
+                integralLayer.getHeight(), integralLayer.getWidth() / 2.0 + xOffset,
+                integralLayer.getHeight() / 2.0 + yOffset, xScale, yScale);
+        if (count > 0) {
+            integralGC.setFill(Color.BLUE);
+            integralGC.fillPolygon(integralShape.getXs(), integralShape.getYs(), count);
         }
     }
 
@@ -218,27 +426,45 @@ public class MathCanvas extends StackPane {
                 mathYCoordinateToCanvasYCoordinate(y) - 2.5, 5.0, 5.0);
     }
 
-    public void setPreviewPoint(double x, double y) {
-        previewPoint[0] = x;
-        previewPoint[1] = y;
+    public void clearPreviewPoint() {
+        this.showPreviewPoint = false;
+        clearPreviewArea();
     }
 
-    public void clearPreviewPoint() {
-        this.previewGC.clearRect(0, 0, previewLayer.getWidth(), previewLayer.getHeight());
+    /**
+     * Clears the area of the last preview point and its label, the rest of the layer is empty anyway
+     */
+    private void clearPreviewArea() {
+        if (previewBounds[2] > 0) {
+            previewGC.clearRect(previewBounds[0], previewBounds[1], previewBounds[2], previewBounds[3]);
+            previewBounds[2] = 0;
+        }
     }
 
     public void drawPreviewPoint(Color color) {
-        clearPreviewPoint();
-        double x = this.previewPoint[0];
-        double y = this.previewPoint[1];
+        clearPreviewArea();
+        if (previewPolynomial == null) {
+            return;
+        }
+        double x = canvasXCoordinateToMathXCoordinateUnrounded(previewCanvasX);
+        double y = previewPolynomial.functionValue(x);
+        double canvasY = mathYCoordinateToCanvasYCoordinate(y);
+        if (!Double.isFinite(canvasY)) {
+            return;
+        }
         double xRounded = Math.round(x * 100.0) / 100.0;
         double yRounded = Math.round(y * 100.0) / 100.0;
+        LabelCache.Label label = labelCache.getPointLabel(xRounded, yRounded, previewGC.getFont());
         previewGC.setFill(color);
-        previewGC.fillOval(mathXCoordinateToCanvasXCoordinate(x) - 2.5,
-                mathYCoordinateToCanvasYCoordinate(y) - 2.5, 5.0, 5.0);
-        previewGC.fillText("(" + xRounded + ", " + yRounded + ")",
-                mathXCoordinateToCanvasXCoordinate(x) + 5.0, mathYCoordinateToCanvasYCoordinate(y) - 2.5);
+        previewGC.fillOval(previewCanvasX - 2.5, canvasY - 2.5, 5.0, 5.0);
+        previewGC.fillText(label.text, previewCanvasX + 5.0, canvasY - 2.5);
 
+        // From the left of the point to the end of the label, with a pixel of antialiasing around it. The label
+        // stands on the baseline, its full height above it is more than enough
+        previewBounds[0] = previewCanvasX - 2.5 - 1.0;
+        previewBounds[1] = canvasY - 2.5 - label.height - 1.0;
+        previewBounds[2] = 2.5 + 5.0 + label.width + 2.0;
+        previewBounds[3] = label.height + 5.0 + 2.0;
     }
 
     public void drawPointLabel(double x, double y, Color color) {
@@ -247,7 +473,7 @@ public class MathCanvas extends StackPane {
         pointsGC.setFill(color);
         pointsGC.fillOval(mathXCoordinateToCanvasXCoordinate(x) - 2.5,
                 mathYCoordinateToCanvasYCoordinate(y) - 2.5, 5.0, 5.0);
-        pointsGC.fillText("(" + xRounded + ", " + yRounded + ")",
+        pointsGC.fillText(labelCache.getPointLabel(xRounded, yRounded, pointsGC.getFont()).text,
                 mathXCoordinateToCanvasXCoordinate(x) + 5.0, mathYCoordinateToCanvasYCoordinate(y) - 2.5);
     }
 
@@ -261,29 +487,92 @@ public class MathCanvas extends StackPane {
     }
 
     public void drawPolynomial(Polynomial polynomialToDraw) {
-        contentGC.setStroke(polynomialToDraw.polyColor);
-
-        double polynomialWidth = 1.0;
-        contentGC.setLineWidth(polynomialWidth);
-        //Set step size so the function value is calculated for every pixel on the canvas
-        double stepSize = (contentLayer.getWidth() / xScale) / contentLayer.getWidth();
-
-        //Set starting point of the first drawn line to far left side of the canvas
-        double lastX = ((-contentLayer.getWidth()) - xOffset / xScale) / 2.0;
-        double lastY = polynomialToDraw.functionValue(lastX);
-
-        //Calculate the value for every pixel in a loop and stroke a line from the previous point
-        for (double x = ((-contentLayer.getWidth() / 2.0) - xOffset)  / xScale; x <= ((contentLayer.getWidth() / 2.0 - xOffset)) / xScale; x += stepSize) {
-            double y = polynomialToDraw.functionValue(x);
-            contentGC.strokeLine(mathXCoordinateToCanvasXCoordinate(lastX),
-                    mathYCoordinateToCanvasYCoordinate(lastY),
-                    mathXCoordinateToCanvasXCoordinate(x),
-                    mathYCoordinateToCanvasYCoordinate(y));
-
-            //Set starting point for next line as endpoint of the previous line
-            lastX = x;
-            lastY = y;
+        drawPolynomials(List.of(polynomialToDraw));
+    }
+
+    /**
+     * Samples all curves in parallel and strokes them afterwards, only the stroking has to happen on the
+     * JavaFX Application Thread
+     * @param polynomialCollection curves to draw
+     */
+    private void drawPolynomials(Collection<Polynomial> polynomialCollection) {
+        // The size of the canvas is read here, the worker threads must not touch the canvas
+        double width = contentLayer.getWidth();
+        double height = contentLayer.getHeight();
+        double originX = width / 2.0 + xOffset;
+        double originY = height / 2.0 + yOffset;
+        double currentXScale = xScale;
+        double currentYScale = yScale;
+
+        //Skip the curves that certainly don't pass through the visible area, including the margin of the polylines
+        double left = -originX / currentXScale;
+        double right = (width - originX) / currentXScale;
+        double bottom = (originY - height - PolylineBuilder.MARGIN) / currentYScale;
+        double top = (originY + PolylineBuilder.MARGIN) / currentYScale;
+        Polynomial[] polynomials = polynomialCollection.stream().parallel()
+                .filter(polynomial -> polynomial.mayIntersect(left, right, bottom, top))
+                .toArray(Polynomial[]::new);
+        int curveCount = polynomials.length;
+        CurveSampler[] samplers = new CurveSampler[curveCount];
+        for (int i = 0; i < curveCount; i++) {
+            samplers[i] = getCurveSampler(polynomials[i]);
+        }
+
+        //Sample the curves adaptively: many points where they bend, few where they are nearly straight.
+        //Every curve has its own sampler with its own buffers, so they can be sampled on the common fork join pool
+        int[] pointCounts = new int[curveCount];
+        IntStream.range(0, curveCount).parallel().forEach(i -> pointCounts[i] = samplers[i].sample(
+                polynomials[i], width, height, originX, originY, currentXScale, currentYScale));
+
+        contentGC.setLineWidth(1.0);
+        for (int i = 0; i < curveCount; i++) {
+            contentGC.setStroke(polynomials[i].getColor());
+            double[] xs = samplers[i].getXs();
+            double[] ys = samplers[i].getYs();
+
+            //Stroke one polyline for every part of the curve that is visible
+            polylineBuilder.begin(height, contentGC::strokePolyline);
+            for (int j = 0; j < pointCounts[i]; j++) {
+                polylineBuilder.add(xs[j], ys[j]);
+            }
+            polylineBuilder.end();
+            hitIndex.add(polynomials[i], xs, ys, pointCounts[i]);
+        }
+    }
+
+    /**
+     * Draws the highlighted curve with a thicker line, its samples are usually still stored from the content layer
+     */
+    private void drawHighlight() {
+        if (highlightedPolynomial == null || !polynomialRegistry.contains(highlightedPolynomial)) {
+            highlightedPolynomial = null;
+            return;
         }
+        double width = highlightLayer.getWidth();
+        double height = highlightLayer.getHeight();
+        CurveSampler sampler = getCurveSampler(highlightedPolynomial);
+        int count = sampler.sample(highlightedPolynomial, width, height, width / 2.0 + xOffset,
+                height / 2.0 + yOffset, xScale, yScale);
+        double[] xs = sampler.getXs();
+        double[] ys = sampler.getYs();
+        highlightGC.setStroke(highlightedPolynomial.getColor());
+        highlightGC.setLineWidth(3.0);
+        polylineBuilder.begin(height, highlightGC::strokePolyline);
+        for (int i = 0; i < count; i++) {
+            polylineBuilder.add(xs[i], ys[i]);
+        }
+        polylineBuilder.end();
+    }
+
+    /**
+     * Returns the sampler of a curve, intervals that were already sampled at this scale are reused, e.g. after scrolling
+     */
+    private CurveSampler getCurveSampler(Polynomial polynomial) {
+        return curveSamplers.computeIfAbsent(polynomial, key -> {
+            CurveSampler sampler = new CurveSampler();
+            sampler.setQuality(curveQuality);
+            return sampler;
+        });
     }
 
     /**
@@ -309,7 +598,7 @@ public class MathCanvas extends StackPane {
                 }
                 if (showScales) {
                     double label = canvasXCoordinateToMathXCoordinate(xCoordinate);
-                    drawXAxisLabel(Double.toString(label), xCoordinate);
+                    drawXAxisLabel(label, xCoordinate);
                 }
             }
         }
@@ -317,12 +606,12 @@ public class MathCanvas extends StackPane {
 
     /**
      * Draws label to x-axis at given coordinate
-     * @param labelText Text to be displayed
+     * @param value Value to be displayed
      * @param x X-coordinate of the label
      */
-    private void drawXAxisLabel(String labelText, double x) {
-        Text label = new Text(labelText);
-        double labelHeight = label.getBoundsInLocal().getHeight();
+    private void drawXAxisLabel(double value, double x) {
+        LabelCache.Label label = labelCache.getScaleLabel(value, coordinateSysGC.getFont());
+        double labelHeight = label.height;
         double y;
         coordinateSysGC.setLineWidth(1);
         coordinateSysGC.setStroke(Color.BLACK);
@@ -344,17 +633,17 @@ public class MathCanvas extends StackPane {
             //Stroke a small tick line from the axis
             coordinateSysGC.strokeLine(x, axisPos, x, axisPos + tickLineLength);
         }
-        coordinateSysGC.fillText(labelText, x, y);
+        coordinateSysGC.fillText(label.text, x, y);
     }
 
     /**
      * Draws label to y-axis at given coordinate
-     * @param labelText Text to be displayed
+     * @param value Value to be displayed
      * @param y Y-coordinate of the label
      */
-    private void drawYAxisLabel(String labelText, double y) {
-        Text label = new Text(labelText);
-        double labelWidth = label.getBoundsInLocal().getWidth();
+    private void drawYAxisLabel(double value, double y) {
+        LabelCache.Label label = labelCache.getScaleLabel(value, coordinateSysGC.getFont());
+        double labelWidth = label.width;
         double x;
         coordinateSysGC.setStroke(Color.BLACK);
         coordinateSysGC.setLineWidth(1);
@@ -371,7 +660,7 @@ public class MathCanvas extends StackPane {
             //Stroke a small line from the axis
             coordinateSysGC.strokeLine(mathXCoordinateToCanvasXCoordinate(0), y, mathXCoordinateToCanvasXCoordinate(0) - tickLineLength, y);
         }
-        coordinateSysGC.fillText(labelText, x, y);
+        coordinateSysGC.fillText(label.text, x, y);
     }
 
     // Update Methods/Change Methods
@@ -384,7 +673,7 @@ public class MathCanvas extends StackPane {
     public void scroll(double deltaX, double deltaY) {
         xOffset += deltaX;
         yOffset += deltaY;
-        drawCoordinateSystem();
+        requestViewRedraw();
     }
 
     public void setRange(double start, double end) throws InvalidRangeException {
@@ -402,7 +691,8 @@ public class MathCanvas extends StackPane {
 
         this.yOffset = 0;
         updateCellSize();
-        drawCoordinateSystem();
+        invalidateSamples();
+        requestViewRedraw();
     }
 
     /**
@@ -420,7 +710,17 @@ public class MathCanvas extends StackPane {
         xOffset = xOffset / changeXFactor;
         yOffset = yOffset / changeYFactor;
         updateCellSize();
-        drawCoordinateSystem();
+        invalidateSamples();
+        requestViewRedraw();
+    }
+
+    /**
+     * Drops the stored samples of all curves, needed whenever they were taken with a different scale or size
+     */
+    private void invalidateSamples() {
+        for (CurveSampler sampler : curveSamplers.values()) {
+            sampler.invalidate();
+        }
     }
 
 
@@ -496,7 +796,8 @@ public class MathCanvas extends StackPane {
     public void reset() {
         clearLayers();
         this.pointsArray.clear();
-        this.polynomialArray.clear();
+        this.polynomialRegistry.clear();
+        this.highlightedPolynomial = null;
     }
 
     /**
@@ -506,7 +807,8 @@ public class MathCanvas extends StackPane {
         this.xScale = coordinateSystemLayer.getWidth() / DEFAULT_CELL_AMOUNT;
         this.yScale = xScale;
         updateCellSize();
-        drawCoordinateSystem();
+        invalidateSamples();
+        requestViewRedraw();
     }
 
     /**
@@ -515,11 +817,12 @@ public class MathCanvas extends StackPane {
     public void returnToOrigin() {
         this.xOffset = 0;
         this.yOffset = 0;
-        drawCoordinateSystem();
+        requestViewRedraw();
     }
 
     public void clearLayers() {
         this.contentGC.clearRect(0, 0, contentLayer.getWidth(), contentLayer.getHeight());
+        this.highlightGC.clearRect(0, 0, highlightLayer.getWidth(), highlightLayer.getHeight());
         this.pointsGC.clearRect(0, 0, pointsLayer.getWidth(), pointsLayer.getHeight());
         this.integralGC.clearRect(0, 0, integralLayer.getWidth(), integralLayer.getHeight());
     }
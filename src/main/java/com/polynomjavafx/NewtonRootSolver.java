@@ -0,0 +1,67 @@
+package com.polynomjavafx;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds real roots by running Newton's method from many starting values.
+ * The starting values are placed around the roots of the derivative, which are found recursively
+ */
+public class NewtonRootSolver implements RootSolver {
+    private static final double TOLERANCE = 1.0e-6; // 1 * 10 ^ -6
+    private static final int MAX_ITERATIONS = 10000;
+    // Size of the area around every root of the derivative
+    private static final int SIZE = 50;
+    // Distance between two starting values
+    private static final double RANGE = 0.5;
+
+    @Override
+    public ArrayList<Double> findRealRoots(double[] coefficients) {
+        ArrayList<Double> roots = new ArrayList<>();
+        for (double x : getStartingValues(coefficients)) {
+            UtilityClasses.checkInterrupted();
+            for (int i = 0; i <= MAX_ITERATIONS; i++) {
+                double delta = Polynomial.newtonStep(coefficients, x);
+                x -= delta;
+
+                if (Math.abs(delta) < TOLERANCE) {
+                    roots.add(x);
+                    break; // break out of the loop once a root has been found
+                }
+            }
+        }
+        return roots;
+    }
+
+    @Override
+    public ArrayList<double[]> findComplexRoots(double[] coefficients) {
+        // Newton's method only searches along the real axis, so only real roots are returned
+        ArrayList<double[]> roots = new ArrayList<>();
+        for (double root : Polynomial.cleanRoots(findRealRoots(coefficients))) {
+            roots.add(new double[]{root, 0.0});
+        }
+        return roots;
+    }
+
+    private double[] getStartingValues(double[] coefficients) {
+        ArrayList<Double> startingValues = new ArrayList<>();
+
+        List<Double> roots = Polynomial.getDegree(coefficients) >= 1
+                ? Polynomial.cleanRoots(findRealRoots(Polynomial.derivationCoefficients(coefficients)))
+                : List.of(0.0);
+
+        if (roots.size() == 0) {
+            for (double i = -SIZE / 2.0; i <= SIZE / 2.0; i += RANGE) {
+                startingValues.add(i);
+            }
+        } else {
+            for (double root : roots) {
+                for (double i = root - SIZE / 2.0; i <= root + SIZE / 2.0; i += RANGE) {
+                    startingValues.add(i);
+                }
+            }
+        }
+
+        return startingValues.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
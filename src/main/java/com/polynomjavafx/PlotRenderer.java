@@ -0,0 +1,316 @@
+package com.polynomjavafx;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Draws a plot like {@link MathCanvas} into a {@link RasterImage} instead of JavaFX canvases: curves, grid, axes
+ * with their labels, the integral and labelled points, in the same order and with the same layout. The curves are
+ * sampled by the same {@link CurveSampler} as on the canvas, so they look the same. Colors are ARGB ints, so no
+ * JavaFX class is needed.
+ * <p>
+ * One renderer must only be used by one thread at a time, different renderers can render concurrently,
+ * see {@link #renderPngs(Collection, ExecutorService)}
+ */
+public final class PlotRenderer {
+    public static final int BLACK = 0xFF000000;
+    public static final int GRAY = 0xFF808080;
+    public static final int BLUE = 0xFF0000FF;
+    public static final int WHITE = 0xFFFFFFFF;
+    // Same as on the canvas
+    private static final double DEFAULT_CELL_AMOUNT = 10;
+    private static final double TICK_LINE_LENGTH = 10;
+    private static final double POINT_RADIUS = 2.5;
+
+    private final int width;
+    private final int height;
+    private double xScale;
+    private double yScale;
+    private double xOffset;
+    private double yOffset;
+    private double cellSize;
+    private boolean showAxis = true;
+    private boolean showGrid = true;
+    private boolean showScales = true;
+    private CurveQuality curveQuality = CurveQuality.BALANCED;
+
+    private final ArrayList<Polynomial> curves = new ArrayList<>();
+    private final ArrayList<Integer> curveColors = new ArrayList<>();
+    private final ArrayList<double[]> points = new ArrayList<>();
+    private final ArrayList<Integer> pointColors = new ArrayList<>();
+    private Polynomial integralPolynomial;
+    private double integralStart;
+    private double integralEnd;
+
+    private final PolylineBuilder polylineBuilder = new PolylineBuilder();
+    private final IntegralShape integralShape = new IntegralShape();
+
+    /**
+     * Creates a renderer with the default view of the canvas: origin in the center and 10 units across the width
+     * @param width width of the image in pixels
+     * @param height height of the image in pixels
+     */
+    public PlotRenderer(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("The image needs a positive width and height");
+        }
+        this.width = width;
+        this.height = height;
+        setView(width / DEFAULT_CELL_AMOUNT, width / DEFAULT_CELL_AMOUNT, 0.0, 0.0);
+    }
+
+    /**
+     * Sets the visible area the same way it is stored in {@link MathCanvas}
+     * @param xScale pixels per unit on the x-axis
+     * @param yScale pixels per unit on the y-axis
+     * @param xOffset pixels the origin is moved to the right from the center
+     * @param yOffset pixels the origin is moved down from the center
+     */
+    public void setView(double xScale, double yScale, double xOffset, double yOffset) {
+        if (!(xScale > 0) || !(yScale > 0)) {
+            throw new IllegalArgumentException("The scales have to be positive");
+        }
+        this.xScale = xScale;
+        this.yScale = yScale;
+        this.xOffset = xOffset;
+        this.yOffset = yOffset;
+        updateCellSize();
+    }
+
+    /**
+     * Shows the range from start to end over the full width, like {@link MathCanvas#setRange(double, double)}
+     */
+    public void setRange(double start, double end) throws InvalidRangeException {
+        if (start == end) {
+            throw new InvalidRangeException();
+        }
+        double scale = width / Math.abs(end - start);
+        setView(scale, scale, -(start * scale + width / 2.0), 0.0);
+    }
+
+    public void setShowAxis(boolean showAxis) {
+        this.showAxis = showAxis;
+    }
+
+    public void setShowGrid(boolean showGrid) {
+        this.showGrid = showGrid;
+    }
+
+    public void setShowScales(boolean showScales) {
+        this.showScales = showScales;
+    }
+
+    public void setCurveQuality(CurveQuality quality) {
+        this.curveQuality = quality;
+    }
+
+    /**
+     * @param polynomial curve to draw
+     * @param argb color of the curve as 0xAARRGGBB
+     */
+    public void addCurve(Polynomial polynomial, int argb) {
+        curves.add(polynomial);
+        curveColors.add(argb);
+    }
+
+    /**
+     * Adds a point that is drawn with its coordinates next to it, like extrema on the canvas
+     * @param argb color of the point and its label as 0xAARRGGBB
+     */
+    public void addPoint(double x, double y, int argb) {
+        points.add(new double[]{x, y});
+        pointColors.add(argb);
+    }
+
+    /**
+     * Shades the area between the curve and the x-axis from x1 to x2
+     */
+    public void setIntegral(Polynomial polynomial, double x1, double x2) {
+        integralPolynomial = polynomial;
+        integralStart = Math.min(x1, x2);
+        integralEnd = Math.max(x1, x2);
+    }
+
+    /**
+     * Draws everything onto a new white image, the layers in the same order as on the canvas
+     * @return the drawn image
+     */
+    public RasterImage render() {
+        RasterImage image = new RasterImage(width, height);
+        image.fill(WHITE);
+        drawCurves(image);
+        drawCoordinateSystem(image);
+        if (integralPolynomial != null) {
+            drawIntegral(image);
+        }
+        for (int i = 0; i < points.size(); i++) {
+            drawPointLabel(image, points.get(i)[0], points.get(i)[1], pointColors.get(i));
+        }
+        return image;
+    }
+
+    /**
+     * @return the rendered image as PNG file
+     */
+    public byte[] renderPng() {
+        return PngEncoder.encode(render());
+    }
+
+    /**
+     * Renders the plots concurrently on the executor, every plot must be in the collection only once
+     * @param renderers plots to render
+     * @param executor thread pool the plots are rendered on
+     * @return the PNG files in the order of the collection
+     */
+    public static List<byte[]> renderPngs(Collection<PlotRenderer> renderers, ExecutorService executor)
+            throws InterruptedException, ExecutionException {
+        ArrayList<Future<byte[]>> futures = new ArrayList<>(renderers.size());
+        for (PlotRenderer renderer : renderers) {
+            futures.add(executor.submit(renderer::renderPng));
+        }
+        ArrayList<byte[]> images = new ArrayList<>(futures.size());
+        for (Future<byte[]> future : futures) {
+            images.add(future.get());
+        }
+        return images;
+    }
+
+    private void drawCurves(RasterImage image) {
+        double originX = width / 2.0 + xOffset;
+        double originY = height / 2.0 + yOffset;
+        // A new sampler per render, nothing is reused between two images
+        CurveSampler sampler = new CurveSampler();
+        sampler.setQuality(curveQuality);
+        // Same culling as on the canvas
+        double left = -originX / xScale;
+        double right = (width - originX) / xScale;
+        double bottom = (originY - height - PolylineBuilder.MARGIN) / yScale;
+        double top = (originY + PolylineBuilder.MARGIN) / yScale;
+        for (int i = 0; i < curves.size(); i++) {
+            if (!curves.get(i).mayIntersect(left, right, bottom, top)) {
+                continue;
+            }
+            sampler.invalidate();
+            int count = sampler.sample(curves.get(i), width, height, originX, originY, xScale, yScale);
+            double[] xs = sampler.getXs();
+            double[] ys = sampler.getYs();
+            int color = curveColors.get(i);
+            polylineBuilder.begin(height, (runXs, runYs, runCount) -> image.strokePolyline(runXs, runYs, runCount, color, 1.0));
+            for (int j = 0; j < count; j++) {
+                polylineBuilder.add(xs[j], ys[j]);
+            }
+            polylineBuilder.end();
+        }
+    }
+
+    private void drawCoordinateSystem(RasterImage image) {
+        if (showAxis) {
+            double yAxisPosition = mathXToImageX(0);
+            double xAxisPosition = mathYToImageY(0);
+            image.strokeLine(0, xAxisPosition, width, xAxisPosition, BLACK, 1.0);
+            image.strokeLine(yAxisPosition, height, yAxisPosition, 0, BLACK, 1.0);
+        }
+        if (!showGrid && !showScales) {
+            return;
+        }
+        // Same positions as the lines of MathCanvas, so grid and axis stay aligned
+        for (double x = xOffset % cellSize + width / 2.0 % cellSize; x <= width; x += cellSize) {
+            if (showGrid) {
+                image.strokeLine(x, 0, x, height, GRAY, 0.5);
+                for (double i = x + cellSize / 10; i < x + cellSize; i += cellSize / 10) {
+                    image.strokeLine(i, 0, i, height, GRAY, 0.1);
+                }
+            }
+            if (showScales) {
+                drawXAxisLabel(image, Math.round(imageXToMathX(x) * 100.0) / 100.0, x);
+            }
+        }
+        for (double y = yOffset % cellSize + height / 2.0 % cellSize; y <= height; y += cellSize) {
+            if (showGrid) {
+                image.strokeLine(0, y, width, y, GRAY, 0.5);
+                for (double i = y + cellSize / 10; i < y + cellSize; i += cellSize / 10) {
+                    image.strokeLine(0, i, width, i, GRAY, 0.1);
+                }
+            }
+            if (showScales) {
+                drawYAxisLabel(image, Math.round(imageYToMathY(y) * 100.0) / 100.0, y);
+            }
+        }
+    }
+
+    private void drawXAxisLabel(RasterImage image, double value, double x) {
+        double labelHeight = RasterImage.GLYPH_HEIGHT;
+        double axisPosition = mathYToImageY(0);
+        double y;
+        // Below or above the view the labels stay at the border, otherwise they are placed at the axis
+        if (axisPosition + labelHeight + TICK_LINE_LENGTH > height) {
+            y = height;
+        } else if (axisPosition < 0) {
+            y = labelHeight;
+        } else {
+            y = axisPosition + labelHeight + TICK_LINE_LENGTH;
+            image.strokeLine(x, axisPosition, x, axisPosition + TICK_LINE_LENGTH, BLACK, 1.0);
+        }
+        image.fillText(Double.toString(value), x, y, BLACK);
+    }
+
+    private void drawYAxisLabel(RasterImage image, double value, double y) {
+        String text = Double.toString(value);
+        double labelWidth = RasterImage.textWidth(text);
+        double axisPosition = mathXToImageX(0);
+        double x;
+        if (axisPosition - labelWidth - TICK_LINE_LENGTH < 0) {
+            x = 0;
+        } else if (axisPosition > width) {
+            x = width - labelWidth;
+        } else {
+            x = axisPosition - labelWidth - TICK_LINE_LENGTH;
+            image.strokeLine(axisPosition, y, axisPosition - TICK_LINE_LENGTH, y, BLACK, 1.0);
+        }
+        image.fillText(text, x, y, BLACK);
+    }
+
+    private void drawIntegral(RasterImage image) {
+        int count = integralShape.update(integralPolynomial, integralStart, integralEnd, width, height,
+                width / 2.0 + xOffset, height / 2.0 + yOffset, xScale, yScale);
+        image.fillPolygon(integralShape.getXs(), integralShape.getYs(), count, BLUE);
+    }
+
+    private void drawPointLabel(RasterImage image, double x, double y, int argb) {
+        double xRounded = Math.round(x * 100.0) / 100.0;
+        double yRounded = Math.round(y * 100.0) / 100.0;
+        image.fillCircle(mathXToImageX(x), mathYToImageY(y), POINT_RADIUS, argb);
+        image.fillText("(" + xRounded + ", " + yRounded + ")", mathXToImageX(x) + 5.0, mathYToImageY(y) - 2.5, argb);
+    }
+
+    private void updateCellSize() {
+        // Between 2 and 5 grid cells across the width, like on the canvas
+        cellSize = xScale;
+        while (width / cellSize > 5) {
+            cellSize *= 10;
+        }
+        while (width / cellSize < 2) {
+            cellSize /= 10;
+        }
+    }
+
+    private double mathXToImageX(double x) {
+        return x * xScale + width / 2.0 + xOffset;
+    }
+
+    private double mathYToImageY(double y) {
+        return -y * yScale + height / 2.0 + yOffset;
+    }
+
+    private double imageXToMathX(double x) {
+        return (x - width / 2.0 - xOffset) / xScale;
+    }
+
+    private double imageYToMathY(double y) {
+        return -(y - height / 2.0 - yOffset) / yScale;
+    }
+}
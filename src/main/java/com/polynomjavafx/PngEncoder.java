@@ -0,0 +1,103 @@
+package com.polynomjavafx;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes a {@link RasterImage} as PNG with 8 bit RGBA, using only java.util.zip, so no image library and no
+ * display is needed
+ */
+public final class PngEncoder {
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    // Color type of 8 bit red, green, blue and alpha
+    private static final int COLOR_TYPE_RGBA = 6;
+    // Every row stores the difference to the pixel on its left, plots are mostly flat and compress well that way
+    private static final int FILTER_SUB = 1;
+
+    private PngEncoder() {
+    }
+
+    /**
+     * @param image image to encode
+     * @return the complete PNG file
+     */
+    public static byte[] encode(RasterImage image) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(image.getWidth() * image.getHeight() / 4);
+        try {
+            write(image, output);
+        } catch (IOException e) {
+            // A ByteArrayOutputStream doesn't throw
+            throw new IllegalStateException(e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Writes the image as PNG file into the stream, which stays open
+     * @param image image to encode
+     * @param output destination of the file
+     */
+    public static void write(RasterImage image, OutputStream output) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        DataOutputStream data = new DataOutputStream(output);
+        data.write(SIGNATURE);
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+        DataOutputStream headerData = new DataOutputStream(header);
+        headerData.writeInt(width);
+        headerData.writeInt(height);
+        headerData.writeByte(8);
+        headerData.writeByte(COLOR_TYPE_RGBA);
+        // Compression, filter and interlace method are always 0
+        headerData.writeByte(0);
+        headerData.writeByte(0);
+        headerData.writeByte(0);
+        writeChunk(data, "IHDR", header.toByteArray());
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(width * height / 4);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try (DeflaterOutputStream deflating = new DeflaterOutputStream(compressed, deflater, 1 << 16)) {
+            int[] pixels = image.getPixels();
+            byte[] row = new byte[1 + 4 * width];
+            row[0] = FILTER_SUB;
+            for (int y = 0; y < height; y++) {
+                int previous = 0;
+                for (int x = 0; x < width; x++) {
+                    int argb = pixels[y * width + x];
+                    // RGBA byte order, minus the bytes of the pixel on the left
+                    int offset = 1 + 4 * x;
+                    row[offset] = (byte) ((argb >>> 16) - (previous >>> 16));
+                    row[offset + 1] = (byte) ((argb >>> 8) - (previous >>> 8));
+                    row[offset + 2] = (byte) (argb - previous);
+                    row[offset + 3] = (byte) ((argb >>> 24) - (previous >>> 24));
+                    previous = argb;
+                }
+                deflating.write(row);
+            }
+        } finally {
+            deflater.end();
+        }
+        writeChunk(data, "IDAT", compressed.toByteArray());
+        writeChunk(data, "IEND", new byte[0]);
+        data.flush();
+    }
+
+    private static void writeChunk(DataOutputStream data, String type, byte[] content) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        data.writeInt(content.length);
+        data.write(typeBytes);
+        data.write(content);
+        // The checksum covers type and content, but not the length
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(content);
+        data.writeInt((int) crc.getValue());
+    }
+}
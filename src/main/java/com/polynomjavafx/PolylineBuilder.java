@@ -0,0 +1,179 @@
+package com.polynomjavafx;
+
+import java.util.Arrays;
+
+/**
+ * Collects the points of a curve in canvas coordinates and hands them over as few polylines as possible.
+ * Segments are clipped against the visible height plus a small margin, so a curve that leaves the view
+ * ends its polyline there and starts a new one where it comes back. Points that lie on the straight line
+ * between the last kept point and a later one are dropped, every dropped point stays within the tolerance of
+ * the segment that replaces it. The buffers are reused for every curve
+ */
+final class PolylineBuilder {
+    // Pixels above and below the view that are still drawn, so the line width isn't cut at the border
+    static final double MARGIN = 2.0;
+    // A point closer than this many pixels to the segment that replaces it is dropped
+    private static final double COLLINEAR_TOLERANCE = 0.01;
+
+    /**
+     * Receives one visible run of the curve, e.g. GraphicsContext::strokePolyline
+     */
+    @FunctionalInterface
+    interface RunConsumer {
+        void accept(double[] xs, double[] ys, int count);
+    }
+
+    private double[] xs = new double[64];
+    private double[] ys = new double[64];
+    private int size;
+    private double top;
+    private double bottom;
+    private RunConsumer consumer;
+    // Last added point, the start of the next segment
+    private double lastX;
+    private double lastY;
+    private boolean hasLast;
+    // Directions from the last kept point as angles, a segment in between passes all points dropped since then
+    private double minAngle;
+    private double maxAngle;
+
+    /**
+     * Starts a new curve
+     * @param height visible height of the canvas
+     * @param consumer receives every visible run of the curve
+     */
+    void begin(double height, RunConsumer consumer) {
+        this.top = -MARGIN;
+        this.bottom = height + MARGIN;
+        this.consumer = consumer;
+        this.size = 0;
+        this.hasLast = false;
+    }
+
+    /**
+     * Adds the next point of the curve, the x-coordinates have to be ascending
+     */
+    void add(double x, double y) {
+        if (Double.isNaN(y)) {
+            // No line can be drawn to or from an undefined point
+            flush();
+            hasLast = false;
+            return;
+        }
+        if (hasLast) {
+            clipSegment(lastX, lastY, x, y);
+        }
+        lastX = x;
+        lastY = y;
+        hasLast = true;
+    }
+
+    /**
+     * Ends the curve and hands over the last run
+     */
+    void end() {
+        flush();
+        hasLast = false;
+    }
+
+    /**
+     * Clips the segment against the visible band and appends the visible part to the current run
+     */
+    private void clipSegment(double x0, double y0, double x1, double y1) {
+        // Both ends on the same side outside the view: nothing to draw
+        if ((y0 < top && y1 < top) || (y0 > bottom && y1 > bottom)) {
+            flush();
+            return;
+        }
+        double startX = x0;
+        double startY = y0;
+        double endX = x1;
+        double endY = y1;
+        if (y0 < top || y0 > bottom) {
+            double border = y0 < top ? top : bottom;
+            startX = intersect(x0, y0, x1, y1, border);
+            startY = border;
+        }
+        if (y1 < top || y1 > bottom) {
+            double border = y1 < top ? top : bottom;
+            endX = intersect(x0, y0, x1, y1, border);
+            endY = border;
+        }
+
+        // The current run only continues if the segment starts inside the view
+        if (size == 0 || startX != x0 || startY != y0) {
+            flush();
+            append(startX, startY);
+        }
+        append(endX, endY);
+        if (endX != x1 || endY != y1) {
+            flush();
+        }
+    }
+
+    /**
+     * x-coordinate where the segment crosses the horizontal line at the given y-coordinate
+     */
+    private static double intersect(double x0, double y0, double x1, double y1, double y) {
+        double t = (y - y0) / (y1 - y0);
+        // An infinite end point makes the segment vertical
+        return Double.isNaN(t) ? x0 : x0 + t * (x1 - x0);
+    }
+
+    private void append(double x, double y) {
+        if (size >= 2 && extendsSegment(xs[size - 2], ys[size - 2], xs[size - 1], ys[size - 1], x, y)) {
+            // The previous point and all points dropped before it lie on the segment to the new point
+            size--;
+        } else {
+            // The previous point is kept, the next segment starts there and may go in any direction
+            minAngle = Double.NEGATIVE_INFINITY;
+            maxAngle = Double.POSITIVE_INFINITY;
+        }
+        if (size == xs.length) {
+            xs = Arrays.copyOf(xs, size * 2);
+            ys = Arrays.copyOf(ys, size * 2);
+        }
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+
+    /**
+     * Checks whether the segment from the last kept point (x0, y0) to (x2, y2) can replace the one to (x1, y1).
+     * Comparing (x1, y1) only with its neighbours would let the error grow with every dropped point, so the
+     * directions that keep every dropped point within the tolerance are narrowed down instead
+     */
+    private boolean extendsSegment(double x0, double y0, double x1, double y1, double x2, double y2) {
+        double dx = x2 - x0;
+        double dy = y2 - y0;
+        double projection = dx * (x1 - x0) + dy * (y1 - y0);
+        if (projection < 0 || projection > dx * dx + dy * dy) {
+            // (x1, y1) isn't between the other two points
+            return false;
+        }
+        double distance = Math.hypot(x1 - x0, y1 - y0);
+        double min = minAngle;
+        double max = maxAngle;
+        if (distance > COLLINEAR_TOLERANCE) {
+            // A line through (x0, y0) with an angle this close to the direction of (x1, y1) passes close enough
+            double direction = Math.atan2(y1 - y0, x1 - x0);
+            double deviation = Math.asin(COLLINEAR_TOLERANCE / distance);
+            min = Math.max(min, direction - deviation);
+            max = Math.min(max, direction + deviation);
+        }
+        double angle = Math.atan2(dy, dx);
+        if (angle < min || angle > max) {
+            return false;
+        }
+        minAngle = min;
+        maxAngle = max;
+        return true;
+    }
+
+    private void flush() {
+        if (size >= 2) {
+            consumer.accept(xs, ys, size);
+        }
+        size = 0;
+    }
+}
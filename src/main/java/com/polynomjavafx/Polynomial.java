@@ -5,36 +5,92 @@ import java.util.*;
 import javafx.scene.paint.Color;
 
 public class Polynomial {
+    // Dense coefficients ordered by ascending exponent, null if the polynomial is stored as sparse terms
     private double[] coefficients;
+    // Only the terms that are not 0, null if the polynomial is stored densely
+    private SparseTerms sparseTerms;
     private int derivationCounter = 0;
-    ArrayList<double[]> extrema = new ArrayList<>();
-    ArrayList<double[]> inflections = new ArrayList<>();
-    ArrayList<double[]> saddles = new ArrayList<>();
-
-    private ArrayList<Double> roots = new ArrayList<>();
-    Color polyColor;
+    // Calculated on first access, see getAnalysis()
+    private volatile PolynomialAnalysis analysis;
+    // Antiderivative and roots for integrals, calculated on first access, see integrate()
+    private volatile AreaCalculator areaCalculator;
+    // Counts the changes of the coefficients, so cached samples of the curve can be recognized as outdated
+    private volatile int modificationCount = 0;
+    // Chosen randomly on first access, so polynomials used without the user interface never load JavaFX
+    private Color polyColor;
+    private static RootSolver rootSolver = new IsolatingRootSolver();
+    // Parts of the x-interval that are bounded separately by mayIntersect()
+    private static final int INTERSECTION_PARTS = 16;
+
+
+    public Polynomial(double[] coefficients) throws WrongInputSizeException {
+        // A polynomial needs at least the constant coefficient, apart from that any degree is allowed
+        if (coefficients.length == 0) {
+            throw new WrongInputSizeException(coefficients.length);
+        }
+        // Copy the input, so later changes of the array can't make the cached analysis outdated
+        this.useCoefficients(coefficients.clone());
+    }
 
+    public Polynomial(double[] coefficients, Color color) throws WrongInputSizeException {
+        this(coefficients);
+        this.polyColor = color;
+    }
 
-    public Polynomial(double[] coefficients, Color... color) throws WrongInputSizeException {
-        // Test if input is the wrong size
-        if (coefficients.length != 6) {
-            throw new WrongInputSizeException(coefficients.length);
+    /**
+     * @return the color the curve is drawn with, a random one if none was given
+     */
+    public Color getColor() {
+        if (this.polyColor == null) {
+            this.polyColor = generateColor();
         }
-        this.coefficients = coefficients;
-        this.polyColor = color.length != 0 ? color[0] : generateColor();
-        try {
-            this.roots = calculateRoots();
-            this.extrema = calculateExtrema();
-            this.inflections = calculateInflectionPoints();
-            this.saddles = calculateSaddlePoints();
-        } catch (ComputationFailedException e) {
-            e.printStackTrace();
+        return this.polyColor;
+    }
+
+    /**
+     * Returns roots, extrema, inflection points and saddle points of the polynomial.
+     * They are calculated on the first call and reused afterwards
+     * @return the analysis of the polynomial
+     * @throws java.util.concurrent.CancellationException if the calculating thread was interrupted
+     */
+    public PolynomialAnalysis getAnalysis() {
+        PolynomialAnalysis result = this.analysis;
+        while (result == null) {
+            int modification = this.modificationCount;
+            // Calculated without the lock, so setCoefficients never waits for an analysis that is outdated anyway
+            PolynomialAnalysis calculated = new PolynomialAnalysis(this);
+            synchronized (this) {
+                // If the coefficients changed in the meantime, the analysis might mix old and new ones
+                if (this.analysis == null && modification == this.modificationCount) {
+                    this.analysis = calculated;
+                }
+                result = this.analysis;
+            }
         }
+        return result;
+    }
 
+    /**
+     * @return whether the analysis was already calculated, so getAnalysis() returns immediately
+     */
+    public boolean isAnalysed() {
+        return this.analysis != null;
     }
 
     public ArrayList<Double> getRoots() {
-        return roots;
+        return getAnalysis().getRoots();
+    }
+
+    public ArrayList<double[]> getExtrema() {
+        return getAnalysis().getExtrema();
+    }
+
+    public ArrayList<double[]> getInflections() {
+        return getAnalysis().getInflections();
+    }
+
+    public ArrayList<double[]> getSaddles() {
+        return getAnalysis().getSaddles();
     }
 
 
@@ -47,17 +103,46 @@ public class Polynomial {
         return Color.rgb(r, g, b, 1.0);
     }
 
-    private Polynomial(double[] coefficients, int derivationCounter, Color... color) {
+    private Polynomial(double[] coefficients, int derivationCounter) {
         // Private constructor, that's why no exception check needs to be performed
-        this.coefficients = coefficients;
+        this.useCoefficients(coefficients);
+        this.derivationCounter = derivationCounter;
+    }
+
+    private Polynomial(SparseTerms sparseTerms, int derivationCounter) {
+        // Derivatives and antiderivatives of sparse polynomials keep the representation as long as it pays off
+        if (SparseTerms.isWorthwhile(sparseTerms.getDegree(), sparseTerms.size())) {
+            this.sparseTerms = sparseTerms;
+        } else {
+            this.coefficients = sparseTerms.toDense();
+        }
         this.derivationCounter = derivationCounter;
-        this.polyColor = color.length != 0 ? color[0] : generateColor();
+    }
+
+    /**
+     * Stores the coefficients either densely or as sparse terms, depending on how many of them are not 0
+     * @param coefficients dense coefficients ordered by ascending exponent
+     */
+    private void useCoefficients(double[] coefficients) {
+        this.sparseTerms = SparseTerms.fromDenseIfSparse(coefficients);
+        this.coefficients = this.sparseTerms == null ? coefficients : null;
+    }
+
+    /**
+     * @return whether only the terms that are not 0 are stored
+     */
+    public boolean isSparse() {
+        return this.sparseTerms != null;
     }
 
     public int getDegree() {
+        return this.sparseTerms != null ? this.sparseTerms.getDegree() : getDegree(this.coefficients);
+    }
+
+    static int getDegree(double[] coefficients) {
         // Loop through the array and return the first value which isn't 0
-        for (int i = this.coefficients.length-1; i >= 0; i--) {
-            if (this.coefficients[i] != 0) {
+        for (int i = coefficients.length-1; i >= 0; i--) {
+            if (coefficients[i] != 0) {
                 return i;
             }
         }
@@ -66,95 +151,267 @@ public class Polynomial {
 
     public boolean isAxisSymmetric() {
         // If all exponents are even, the polynom is axis symmetric, else point symmetric
-        for (int i = 0; i < this.coefficients.length; i++) {
-            // If the exponent is odd, return false
-            if (this.coefficients[i] != 0 && i % 2 != 0) {
-                return false;
-            }
-        }
-        // If every exponent where the value is not 0, is even
-        return this.getDegree() != 0;
+        return !this.hasTermWithExponentParity(1) && this.getDegree() != 0;
     }
 
     public boolean isPointSymmetric() {
         // If all exponents are odd, the polynom is point symmetric, else axis symmetric
+        return !this.hasTermWithExponentParity(0) && this.getDegree() != 0;
+    }
+
+    /**
+     * @param parity 0 for even exponents, 1 for odd exponents
+     * @return whether a term whose coefficient is not 0 has an exponent with the given parity
+     */
+    private boolean hasTermWithExponentParity(int parity) {
+        if (this.sparseTerms != null) {
+            for (int exponent : this.sparseTerms.exponents) {
+                if (exponent % 2 == parity) {
+                    return true;
+                }
+            }
+            return false;
+        }
         for (int i = 0; i < this.coefficients.length; i++) {
-            // If the exponent is even, return false
-            if (this.coefficients[i] != 0 && i % 2 == 0) {
-                return false;
+            if (this.coefficients[i] != 0 && i % 2 == parity) {
+                return true;
             }
         }
-        // If every exponent where the value is not 0, is odd
-        return this.getDegree() != 0;
+        return false;
     }
 
     public double functionValue(double x) {
-        // Get the sum of all coefficients multiplied by x to the power of the exponent
+        return this.sparseTerms != null ? this.sparseTerms.functionValue(x) : functionValue(this.coefficients, x);
+    }
+
+    static double functionValue(double[] coefficients, double x) {
+        // Horner's method: a0 + x(a1 + x(a2 + ...)) needs one multiplication and one addition per coefficient
         double functionValue = 0.0;
 
-        for (int i = 0; i < this.coefficients.length; i++) {
-            functionValue += this.coefficients[i] * Math.pow(x, i);
+        for (int i = coefficients.length-1; i >= 0; i--) {
+            functionValue = functionValue * x + coefficients[i];
         }
         return functionValue;
     }
 
+    /**
+     * Evaluates the polynomial for every value of xs and writes the results into out
+     * @param xs x-values to evaluate
+     * @param out array the function values are written to, must be at least as long as xs
+     */
+    public void evaluate(double[] xs, double[] out) {
+        if (out.length < xs.length) {
+            throw new IllegalArgumentException("Output array is shorter than the input array");
+        }
+        for (int i = 0; i < xs.length; i++) {
+            out[i] = this.functionValue(xs[i]);
+        }
+    }
+
+    /**
+     * Evaluates the polynomial at count equidistant x-values start, start + step, start + 2 * step, ...
+     * @param start first x-value
+     * @param step distance between two x-values
+     * @param count amount of values to calculate
+     * @param out array the function values are written to, must have at least count elements
+     */
+    public void evaluateRange(double start, double step, int count, double[] out) {
+        if (out.length < count) {
+            throw new IllegalArgumentException("Output array is shorter than the amount of values to calculate");
+        }
+        for (int i = 0; i < count; i++) {
+            // Multiply instead of adding up the step size so rounding errors don't accumulate
+            out[i] = this.functionValue(start + i * step);
+        }
+    }
+
+    /**
+     * Checks whether the curve can pass through a rectangle. The x-interval is split into a few parts and the
+     * values of every part are bounded with interval arithmetic, so the answer is true for every curve that
+     * passes through it and false for most curves that don't
+     * @param left left border of the rectangle
+     * @param right right border of the rectangle
+     * @param bottom lower border of the rectangle
+     * @param top upper border of the rectangle
+     * @return false if the curve certainly misses the rectangle
+     */
+    public boolean mayIntersect(double left, double right, double bottom, double top) {
+        double[] bounds = new double[2];
+        double step = (right - left) / INTERSECTION_PARTS;
+        for (int i = 0; i < INTERSECTION_PARTS; i++) {
+            double lower = left + i * step;
+            // The last part ends exactly at the border, so no value is lost to rounding
+            double upper = i == INTERSECTION_PARTS - 1 ? right : left + (i + 1) * step;
+            if (this.sparseTerms != null) {
+                this.sparseTerms.valueBounds(lower, upper, bounds);
+            } else {
+                valueBounds(this.coefficients, lower, upper, bounds);
+            }
+            // NaN bounds, e.g. after an overflow, count as visible
+            if (!(bounds[1] < bottom) && !(bounds[0] > top)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Horner's method with intervals: the result contains every function value on [lower, upper], but can be
+     * wider than the exact range, the narrower the interval the closer
+     * @param coefficients coefficients ordered by ascending exponent
+     * @param out receives the lower and the upper bound
+     */
+    static void valueBounds(double[] coefficients, double lower, double upper, double[] out) {
+        double low = 0.0;
+        double high = 0.0;
+        for (int i = coefficients.length-1; i >= 0; i--) {
+            intervalMultiply(low, high, lower, upper, out);
+            low = out[0] + coefficients[i];
+            high = out[1] + coefficients[i];
+        }
+        out[0] = low;
+        out[1] = high;
+    }
+
+    static void intervalMultiply(double low1, double high1, double low2, double high2, double[] out) {
+        double a = low1 * low2;
+        double b = low1 * high2;
+        double c = high1 * low2;
+        double d = high1 * high2;
+        out[0] = Math.min(Math.min(a, b), Math.min(c, d));
+        out[1] = Math.max(Math.max(a, b), Math.max(c, d));
+    }
+
+    /**
+     * Calculates the exact range of x^exponent on [lower, upper]
+     */
+    static void intervalPower(double lower, double upper, int exponent, double[] out) {
+        double low = SparseTerms.power(lower, exponent);
+        double high = SparseTerms.power(upper, exponent);
+        if (exponent % 2 == 1) {
+            out[0] = low;
+            out[1] = high;
+        } else if (lower <= 0.0 && upper >= 0.0) {
+            // Even powers have their minimum 0 at x = 0
+            out[0] = 0.0;
+            out[1] = Math.max(low, high);
+        } else {
+            out[0] = Math.min(low, high);
+            out[1] = Math.max(low, high);
+        }
+    }
+
+    /**
+     * Calculates the Newton correction f(x) / f'(x). Function value and derivative are computed together
+     * in one Horner pass over the coefficients, so no derivation polynomial has to be created
+     * @param x x-value to calculate the correction for
+     * @return f(x) divided by f'(x)
+     */
+    double newtonStep(double x) {
+        return this.sparseTerms != null ? this.sparseTerms.newtonStep(x) : newtonStep(this.coefficients, x);
+    }
+
+    static double newtonStep(double[] coefficients, double x) {
+        double value = 0.0;
+        double derivative = 0.0;
+
+        for (int i = coefficients.length-1; i >= 0; i--) {
+            // The derivative of the Horner recursion value * x + a_i is derivative * x + value
+            derivative = derivative * x + value;
+            value = value * x + coefficients[i];
+        }
+        return value / derivative;
+    }
+
     private double[] derivationCoefficients() {
+        return derivationCoefficients(this.coefficients);
+    }
+
+    static double[] derivationCoefficients(double[] coefficients) {
         // Example: (6x^4 - 12x^3 + 3x^2 + 4x + 8) --> (0 + 24x^3 - 36x^2 + 6x + 4)
-        double[] derivation = { 0.0, 0.0, 0.0, 0.0, 0.0 };
+        // The derivative of a constant is the constant 0, so the array always keeps at least one element
+        double[] derivation = new double[Math.max(1, coefficients.length-1)];
 
-        for (int i = 0; i < this.coefficients.length-1; i++) {
+        for (int i = 0; i < coefficients.length-1; i++) {
             // Multiply the coefficient with the exponent and subtract 1 from the exponent
-            derivation[i] = (i+1) * this.coefficients[i+1];
+            derivation[i] = (i+1) * coefficients[i+1];
         }
         return derivation;
     }
 
     public Polynomial derivationPolynom() {
+        if (this.sparseTerms != null) {
+            return new Polynomial(this.sparseTerms.derivative(), (this.derivationCounter+1));
+        }
         return new Polynomial(this.derivationCoefficients(), (this.derivationCounter+1));
     }
 
     private double[] antiderivativeCoefficients() {
+        return antiderivativeCoefficients(this.coefficients);
+    }
+
+    static double[] antiderivativeCoefficients(double[] coefficients) {
         // Calculate the antiderivative coefficients using the power rule
         double[] antiderivativeCoefficients = new double[coefficients.length + 1];
-        for (int i = 1; i < coefficients.length; i++) {
+        for (int i = 1; i <= coefficients.length; i++) {
             antiderivativeCoefficients[i] = coefficients[i-1] / (i);
         }
         return antiderivativeCoefficients;
     }
 
     public Polynomial antiderivationPolynom() {
+        if (this.sparseTerms != null) {
+            return new Polynomial(this.sparseTerms.antiderivative(), 0);
+        }
         return new Polynomial(this.antiderivativeCoefficients(), 0);
     }
 
-    private ArrayList<Double> calculateRoots() {
-        double[] startingValues = getStartingValues();
-        double tol = 1.0e-6; // 1 * 10 ^ -6
-        int maxIter = 10000;
-
-        ArrayList<Double> roots = new ArrayList<>();
-        for (double x : startingValues) {
-            for (int i = 0; i <= maxIter; i++) {
-                double delta = this.functionValue(x) / this.derivationPolynom().functionValue(x);
-                x -= delta;
-
-                if (Math.abs(delta) < tol) {
-                    // round roots if they are close to the next integer
-                    // get difference between rounded root and root
-                    if (getDifference(Math.round(Math.abs(x)), Math.abs(x)) <= 0.0001) {
-                        roots.add((double) Math.round(x));
-                    } else {
-                        roots.add(Math.round(x*100.0)/100.0);
-                    }
-                    break; // break out of the loop once a root has been found
-                }
-            }
-        }
+    ArrayList<Double> calculateRoots() {
+        return calculateRoots(rootSolver);
+    }
+
+    /**
+     * @return the real roots found by the default solver, unrounded and not necessarily sorted
+     */
+    ArrayList<Double> findRealRoots() {
+        return rootSolver.findRealRoots(this.readCoefficients());
+    }
+
+    /**
+     * Calculates the real roots of the polynomial with the given solver instead of the default one
+     * @param solver strategy used to find the roots
+     * @return sorted roots without duplicates
+     */
+    public ArrayList<Double> calculateRoots(RootSolver solver) {
+        return cleanRoots(solver.findRealRoots(this.readCoefficients()));
+    }
 
+    /**
+     * Calculates all complex roots of the polynomial with the default solver
+     * @return roots as {real part, imaginary part}
+     */
+    public ArrayList<double[]> getComplexRoots() {
+        return rootSolver.findComplexRoots(this.readCoefficients());
+    }
+
+    /**
+     * Rounds roots the way they are displayed, removes duplicates and sorts them
+     * @param roots roots as returned by a {@link RootSolver}
+     * @return sorted roots without duplicates
+     */
+    static ArrayList<Double> cleanRoots(List<Double> roots) {
         // remove duplicate roots (much more efficiently)
         HashSet<Double> uniqueSet = new HashSet<>();
         ArrayList<Double> rootsNoDuplicates = new ArrayList<>();
 
         for (double root : roots) {
+            // round roots if they are close to the next integer
+            // get difference between rounded root and root
+            if (getDifference(Math.round(Math.abs(root)), Math.abs(root)) <= 0.0001) {
+                root = Math.round(root);
+            } else {
+                root = Math.round(root*100.0)/100.0;
+            }
             // taking advantage of a key quality of HashSets, which is that an element e isn't added
             // if an element e2 is already in the set, instead returning false
             if (uniqueSet.add(root)) {
@@ -165,7 +422,7 @@ public class Polynomial {
         return rootsNoDuplicates;
     }
 
-    public double getDifference(double x, double y) {
+    public static double getDifference(double x, double y) {
         double difference;
 
         if (Math.abs(x) > Math.abs(y)) {
@@ -177,28 +434,16 @@ public class Polynomial {
         return difference;
     }
 
-    private double[] getStartingValues(){
-        ArrayList<Double> startingValues = new ArrayList<>();
-        // Size of the array
-        int size = 50;
-        // Range of the values
-        double range = 0.5;
-
-        ArrayList<Double> roots = this.getDegree() >= 1 ? this.derivationPolynom().calculateRoots() : new ArrayList<>(List.of(0.0));
-
-        if (roots.size() == 0) {
-            for (double i = -size / 2.0; i <= size / 2.0; i += range) {
-                startingValues.add(i);
-            }
-        } else {
-            for (double root : roots) {
-                for (double i = root - size / 2.0; i <= root + size / 2.0; i += range) {
-                    startingValues.add(i);
-                }
-            }
-        }
+    /**
+     * Select the solver that is used for all root calculations
+     * @param solver the new default solver
+     */
+    public static void setRootSolver(RootSolver solver) {
+        rootSolver = Objects.requireNonNull(solver);
+    }
 
-        return startingValues.stream().mapToDouble(Double::doubleValue).toArray();
+    public static RootSolver getRootSolver() {
+        return rootSolver;
     }
 
     public ArrayList<double[]> calculateExtrema() throws ComputationFailedException {
@@ -217,6 +462,7 @@ public class Polynomial {
 
         ArrayList<double[]> returnList = new ArrayList<>();
         for (double firstDerivNull: firstDerivNulls) {
+            UtilityClasses.checkInterrupted();
             returnList.add(new double[]{firstDerivNull, this.functionValue(firstDerivNull)});
         }
         // return the array of null-value pairs
@@ -238,6 +484,7 @@ public class Polynomial {
 
         ArrayList<double[]> returnList = new ArrayList<>();
         for (double secDerivNull : secDerivNulls) {
+            UtilityClasses.checkInterrupted();
             // example: 0.49249068954058 -> 490.0 -> 0.49
             returnList.add(new double[]{secDerivNull, this.functionValue(secDerivNull)});
         }
@@ -264,6 +511,7 @@ public class Polynomial {
 
         ArrayList<double[]> returnList = new ArrayList<>();
         for (double secDerivNull: secDerivNulls) {
+            UtilityClasses.checkInterrupted();
             if (firstDerivative.functionValue(secDerivNull) == 0.0) {
                 returnList.add(new double[]{secDerivNull, this.functionValue(secDerivNull)});
             }
@@ -271,32 +519,103 @@ public class Polynomial {
         return returnList;
     }
 
+    /**
+     * Calculates the area between the curve and the x-axis from x1 to x2, parts below the x-axis count positive
+     * @param x1 one bound of the area
+     * @param x2 the other bound of the area
+     * @return the area, never negative
+     */
     public double getIntegral(double x1, double x2) {
-        // Get bigger x value
-        double biggerX = Math.max(x1, x2);
-        // Get smaller x value
-        double smallerX = Math.min(x1, x2);
+        // Finds the roots on the first call, unless they were already found by the analysis
+        return getAreaCalculator().absoluteArea(x1, x2);
+    }
 
-        if (this.getDegree() == 0) {
-            return (Math.abs(biggerX) + Math.abs(smallerX)) * this.coefficients[0];
+    /**
+     * Calculates the definite integrals for many pairs of bounds at once. The antiderivative and the roots are
+     * calculated on the first call and reused afterwards, so every pair only costs a few evaluations
+     * @param lowerBounds lower bound of each integral
+     * @param upperBounds upper bound of each integral, must be at least as long as lowerBounds
+     * @param signedAreas array the integrals are written to, negative where the area below the x-axis is bigger,
+     *                    must be at least as long as lowerBounds
+     * @param absoluteAreas array the areas between the curve and the x-axis are written to, split at the roots,
+     *                      must be at least as long as lowerBounds, or null if they are not needed
+     */
+    public void integrate(double[] lowerBounds, double[] upperBounds, double[] signedAreas, double[] absoluteAreas) {
+        int count = lowerBounds.length;
+        if (upperBounds.length < count || signedAreas.length < count || (absoluteAreas != null && absoluteAreas.length < count)) {
+            throw new IllegalArgumentException("Bound or output arrays are shorter than the lower bounds");
         }
+        AreaCalculator calculator = getAreaCalculator();
+        for (int i = 0; i < count; i++) {
+            signedAreas[i] = calculator.signedArea(lowerBounds[i], upperBounds[i]);
+            if (absoluteAreas != null) {
+                absoluteAreas[i] = calculator.absoluteArea(lowerBounds[i], upperBounds[i]);
+            }
+        }
+    }
 
-        // get anti-derivative
-        Polynomial antiDerivative = this.antiderivationPolynom();
-        // Get the integral
-        return Math.abs(antiDerivative.functionValue(biggerX) - antiDerivative.functionValue(smallerX));
+    /**
+     * @return whether integrals can be calculated without finding the roots first, see getIntegral()
+     */
+    public boolean isIntegralPrepared() {
+        return this.areaCalculator != null || this.analysis != null;
     }
 
-    private String getOperator(int i) {
+    private AreaCalculator getAreaCalculator() {
+        AreaCalculator result = this.areaCalculator;
+        if (result != null) {
+            return result;
+        }
+        // The analysis already found the roots
+        PolynomialAnalysis currentAnalysis = this.analysis;
+        if (currentAnalysis != null) {
+            return currentAnalysis.getAreaCalculator();
+        }
+
+        double[] currentCoefficients;
+        SparseTerms currentSparseTerms;
+        int modification;
+        synchronized (this) {
+            // setCoefficients replaces both representations at once, so they are read together
+            currentCoefficients = this.coefficients;
+            currentSparseTerms = this.sparseTerms;
+            modification = this.modificationCount;
+        }
+        ArrayList<Double> roots = rootSolver.findRealRoots(currentSparseTerms != null ? currentSparseTerms.toDense() : currentCoefficients);
+        result = createAreaCalculator(currentCoefficients, currentSparseTerms, roots);
+        synchronized (this) {
+            // A calculator for coefficients that were replaced in the meantime must not be cached
+            if (modification == this.modificationCount) {
+                this.areaCalculator = result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param realRoots the real roots of the polynomial, unrounded
+     * @return the calculator for the current coefficients
+     */
+    AreaCalculator createAreaCalculator(ArrayList<Double> realRoots) {
+        return createAreaCalculator(this.coefficients, this.sparseTerms, realRoots);
+    }
+
+    private static AreaCalculator createAreaCalculator(double[] coefficients, SparseTerms sparseTerms, ArrayList<Double> realRoots) {
+        return sparseTerms != null
+                ? new AreaCalculator(null, sparseTerms.antiderivative(), realRoots)
+                : new AreaCalculator(antiderivativeCoefficients(coefficients), null, realRoots);
+    }
+
+    private String getOperator(double coefficient, int exponent, int degree) {
         // Check if the value is negative
-        String operator = this.coefficients[i] < 0 ? "-" : i >= this.getDegree() ? "" : "+";
+        String operator = coefficient < 0 ? "-" : exponent >= degree ? "" : "+";
         // If operator is not the first operator, add whitespaces around it
-        return i < this.getDegree() ? " " + operator + " " : operator;
+        return exponent < degree ? " " + operator + " " : operator;
     }
 
-    private String getNumber(int i) {
+    private String getNumber(double coefficient, int exponent) {
         // If number is 1 --> (1.0) not (1.0x^0),  If number is an integer --> (3.0x) not (3.0x^1), Default --> (4.56x^2)
-        return this.coefficients[i] == 1 && i >= 1 ? "" : this.coefficients[i] == Math.round(this.coefficients[i]) ? String.valueOf((int) Math.abs(this.coefficients[i])) : String.valueOf(Math.abs(this.coefficients[i]));
+        return coefficient == 1 && exponent >= 1 ? "" : coefficient == Math.round(coefficient) ? String.valueOf((int) Math.abs(coefficient)) : String.valueOf(Math.abs(coefficient));
     }
 
     private String getExponent(int i) {
@@ -308,22 +627,52 @@ public class Polynomial {
     public String toString() {
         // Create a StringBuilder initialized with f(x) = | for every derivation add one apostrophe (')
         StringBuilder builder = new StringBuilder("f" + "'".repeat(this.derivationCounter) + "(x) = ");
+        int degree = this.getDegree();
+
+        if (this.sparseTerms != null) {
+            // Only the stored terms need to be visited
+            for (int i = this.sparseTerms.size()-1; i >= 0; i--) {
+                double coefficient = this.sparseTerms.coefficients[i];
+                int exponent = this.sparseTerms.exponents[i];
+                builder.append(this.getOperator(coefficient, exponent, degree)).append(this.getNumber(coefficient, exponent)).append(this.getExponent(exponent));
+            }
+            return builder.toString();
+        }
 
         for (int i = this.coefficients.length-1; i >= 0; i--) {
             // If the coefficient is not 0, fill the builder with the operator, number and exponent
             if (this.coefficients[i] != 0) {
-                builder.append(this.getOperator(i)).append(this.getNumber(i)).append(this.getExponent(i));
+                builder.append(this.getOperator(this.coefficients[i], i, degree)).append(this.getNumber(this.coefficients[i], i)).append(this.getExponent(i));
             }
         }
         return builder.toString();
     }
 
+    /**
+     * @return a copy of the dense coefficients ordered by ascending exponent, changing it doesn't change the polynomial
+     */
     public double[] getCoefficients() {
-        return coefficients;
+        return this.sparseTerms != null ? this.sparseTerms.toDense() : coefficients.clone();
+    }
+
+    /**
+     * Coefficients for the root solvers without copying them, the array is read-only
+     * @return the dense coefficients ordered by ascending exponent, for sparse polynomials a newly created array
+     */
+    double[] readCoefficients() {
+        return this.sparseTerms != null ? this.sparseTerms.toDense() : coefficients;
+    }
+
+    public synchronized void setCoefficients(double[] coefficients) {
+        this.useCoefficients(coefficients);
+        // The old analysis doesn't belong to the new coefficients anymore
+        this.analysis = null;
+        this.areaCalculator = null;
+        this.modificationCount++;
     }
 
-    public void setCoefficients(double[] coefficients) {
-        this.coefficients = coefficients;
+    int getModificationCount() {
+        return modificationCount;
     }
 
 
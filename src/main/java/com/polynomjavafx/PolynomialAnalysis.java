@@ -0,0 +1,70 @@
+package com.polynomjavafx;
+
+import java.util.ArrayList;
+
+/**
+ * Roots, extrema, inflection points and saddle points of a polynomial.
+ * Everything is calculated once when the object is created, see {@link Polynomial#getAnalysis()}
+ */
+public class PolynomialAnalysis {
+    private final ArrayList<Double> roots;
+    private final ArrayList<double[]> extrema;
+    private final ArrayList<double[]> inflections;
+    private final ArrayList<double[]> saddles;
+    // Built from the unrounded roots, so integrals don't have to find them again
+    private final AreaCalculator areaCalculator;
+
+    PolynomialAnalysis(Polynomial polynomial) {
+        ArrayList<Double> realRoots = polynomial.findRealRoots();
+        this.roots = Polynomial.cleanRoots(realRoots);
+        this.areaCalculator = polynomial.createAreaCalculator(realRoots);
+        UtilityClasses.checkInterrupted();
+
+        // If one attribute can't be calculated, the others are still shown
+        ArrayList<double[]> extrema = new ArrayList<>();
+        try {
+            extrema = polynomial.calculateExtrema();
+        } catch (ComputationFailedException e) {
+            e.printStackTrace();
+        }
+        this.extrema = extrema;
+        UtilityClasses.checkInterrupted();
+
+        ArrayList<double[]> inflections = new ArrayList<>();
+        try {
+            inflections = polynomial.calculateInflectionPoints();
+        } catch (ComputationFailedException e) {
+            e.printStackTrace();
+        }
+        this.inflections = inflections;
+        UtilityClasses.checkInterrupted();
+
+        ArrayList<double[]> saddles = new ArrayList<>();
+        try {
+            saddles = polynomial.calculateSaddlePoints();
+        } catch (ComputationFailedException e) {
+            e.printStackTrace();
+        }
+        this.saddles = saddles;
+    }
+
+    public ArrayList<Double> getRoots() {
+        return roots;
+    }
+
+    public ArrayList<double[]> getExtrema() {
+        return extrema;
+    }
+
+    public ArrayList<double[]> getInflections() {
+        return inflections;
+    }
+
+    public ArrayList<double[]> getSaddles() {
+        return saddles;
+    }
+
+    AreaCalculator getAreaCalculator() {
+        return areaCalculator;
+    }
+}
@@ -1,23 +1,18 @@
 package com.polynomjavafx;
 
 import javafx.beans.value.ChangeListener;
-import javafx.collections.ObservableMap;
+import javafx.collections.transformation.FilteredList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
 import javafx.scene.control.*;
-import javafx.scene.input.KeyCode;
-import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.HBox;
 import javafx.scene.paint.Color;
 import javafx.util.StringConverter;
 
-import java.io.IOException;
 import java.util.*;
-import java.util.function.UnaryOperator;
+import java.util.concurrent.CompletionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -38,6 +33,9 @@ public class PolynomialController {
     public RadioMenuItem canvasPoints;
     public RadioMenuItem polynomialPoints;
     public RadioMenuItem aboveThirdDegree;
+    public RadioMenuItem fastCurveQuality;
+    public RadioMenuItem balancedCurveQuality;
+    public RadioMenuItem preciseCurveQuality;
     public MenuItem returnToOriginMenuItem;
     public HBox infoHbox;
     public ChoiceBox<String> scaleChoiceBox;
@@ -45,7 +43,11 @@ public class PolynomialController {
     public TextField scaleTextField2;
     private Polynomial selectedPolynomial;
     @FXML
-    private ChoiceBox<String> polynomialsCB;
+    private ComboBox<Long> polynomialsCB;
+    @FXML
+    private TextField polynomialSearchField;
+    // IDs of the registry that match the search, created once the canvas with the registry was injected
+    private FilteredList<Long> filteredPolynomialIds;
     @FXML
     private MathCanvas mathCanvas;
 
@@ -55,6 +57,11 @@ public class PolynomialController {
     private Color saddlePointColor;
     private Color userPointColor;
     private Color previewPointColor;
+    private final AnalysisExecutor analysisExecutor = new AnalysisExecutor();
+    // Integrals have their own job, typing a bound mustn't cancel the analysis of the same polynomial
+    private final AnalysisExecutor integralExecutor = new AnalysisExecutor();
+    // Created with the controller, so the dialog is loaded in the background while the window opens
+    private final PolynomialInputDialog inputDialog = new PolynomialInputDialog();
 
 
 
@@ -62,6 +69,8 @@ public class PolynomialController {
     private void initialize() {
         initializeVisuals();
         initializeMenuItems();
+        mathCanvas.setLayerRenderer(MathCanvas.Layer.POINTS, this::drawPointsLayer);
+        mathCanvas.setLayerRenderer(MathCanvas.Layer.INTEGRAL, this::drawIntegralLayer);
         initScaleChoiceBox();
         initIntegralTextFields();
         initScaleTextFields();
@@ -83,57 +92,66 @@ public class PolynomialController {
     }
 
     /**
-     * drawPolynomials each time a polynomial is submitted/a new is picked out from the drop-down list
+     * Draws the points set by the user and the characteristic points of the selected polynomial onto the points layer
      */
-    private void drawPolynomials() {
-        mathCanvas.clearLayers();
-
-        for (Polynomial p : mathCanvas.polynomialArray) {
-            this.mathCanvas.drawPolynomial(p);
-        }
-
-        if (selectedPolynomial != null) {
-            this.drawAttributes(selectedPolynomial);
-        }
-
+    private void drawPointsLayer() {
+        mathCanvas.drawPoints(userPointColor);
+        redrawPolynomialPoints();
     }
 
-    private void redrawContent() {
-        this.drawPolynomials();
-        mathCanvas.drawPoints(userPointColor);
-        if (!integralTextField1.getText().isEmpty() && !integralTextField2.getText().isEmpty() && selectedPolynomial != null) {
+    /**
+     * Draws the integral of the selected polynomial between the bounds from the text fields onto the integral layer
+     */
+    private void drawIntegralLayer() {
+        if (hasIntegralBounds() && selectedPolynomial != null) {
             mathCanvas.drawIntegral(Double.parseDouble(integralTextField1.getText()), Double.parseDouble(integralTextField2.getText()), selectedPolynomial);
         }
-        if(selectedPolynomial != null) {
-            mathCanvas.drawPreviewPoint(previewPointColor);
-        }
     }
 
-    private void updatePolynomialChoiceBox(Polynomial polynomial) {
-        this.polynomialsCB.getItems().add(polynomial.toString());
-        this.polynomialsCB.setValue(polynomial.toString());
+    private boolean hasIntegralBounds() {
+        String numberPattern = "^[+-]?[0-9]+(\\.[0-9]+)?$";
+        return integralTextField1.getText().matches(numberPattern) && integralTextField2.getText().matches(numberPattern);
+    }
+
+    private void updatePolynomialChoiceBox(long id) {
+        // A new polynomial has to be visible in the list, whatever was searched before
+        this.polynomialSearchField.clear();
+        this.polynomialsCB.setValue(id);
     }
 
     private void resetPolynomialChoiceBox() {
-        this.polynomialsCB.getItems().clear();
+        this.polynomialsCB.setValue(null);
     }
 
     private void polynomialsCBListener() {
+        // The combo box holds the IDs of the registry, the labels were formatted once when the curves were added
+        PolynomialRegistry registry = mathCanvas.polynomialRegistry;
+        // The popup is a ListView, it only creates cells for the visible rows, even for thousands of polynomials.
+        // The registry keeps the list of IDs up to date itself
+        this.filteredPolynomialIds = new FilteredList<>(registry.getIds());
+        this.polynomialsCB.setItems(filteredPolynomialIds);
+        this.polynomialSearchField.textProperty().addListener((observable, oldValue, newValue) -> {
+            String search = newValue.trim();
+            filteredPolynomialIds.setPredicate(search.isEmpty() ? null : id -> registry.getLabel(id).contains(search));
+        });
+        this.polynomialsCB.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(Long id) {
+                return id == null ? "" : registry.getLabel(id);
+            }
+
+            @Override
+            public Long fromString(String string) {
+                return null;
+            }
+        });
         this.polynomialsCB.valueProperty().addListener((observable, oldValue, newValue) -> {
-            for (Polynomial p : mathCanvas.polynomialArray) {
-                try {
-                    if (p.toString().contentEquals(newValue)) {
-                        this.selectedPolynomial = p;
-                        mathCanvas.integralGC.clearRect(0, 0, mathCanvas.integralLayer.getWidth(),
-                                mathCanvas.integralLayer.getHeight());
-                        mathCanvas.pointsGC.clearRect(0, 0, mathCanvas.pointsLayer.getWidth(),
-                                mathCanvas.pointsLayer.getHeight());
-                        this.drawAttributes(p);
-                        mathCanvas.drawPoints(userPointColor);
-                    }
-                } catch (NullPointerException e) {
-                    System.out.println();
-                }
+            Polynomial p = newValue == null ? null : registry.get(newValue);
+            if (p != null) {
+                this.selectedPolynomial = p;
+                this.drawAttributes(p);
+                // the curves stay the same, only the points and the integral belong to the selection
+                mathCanvas.invalidate(MathCanvas.Layer.POINTS, MathCanvas.Layer.INTEGRAL);
             }
         });
     }
@@ -181,6 +199,21 @@ public class PolynomialController {
         ToggleGroup pointSelectionTG = new ToggleGroup();
         canvasPoints.setToggleGroup(pointSelectionTG);
         polynomialPoints.setToggleGroup(pointSelectionTG);
+
+        // the curve quality is mutually exclusive as well, every item stores its quality as user data
+        ToggleGroup curveQualityTG = new ToggleGroup();
+        fastCurveQuality.setUserData(CurveQuality.FAST);
+        balancedCurveQuality.setUserData(CurveQuality.BALANCED);
+        preciseCurveQuality.setUserData(CurveQuality.PRECISE);
+        fastCurveQuality.setToggleGroup(curveQualityTG);
+        balancedCurveQuality.setToggleGroup(curveQualityTG);
+        preciseCurveQuality.setToggleGroup(curveQualityTG);
+        curveQualityTG.selectedToggleProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue != null) {
+                mathCanvas.setCurveQuality((CurveQuality) newValue.getUserData());
+                mathCanvas.invalidate(MathCanvas.Layer.CONTENT);
+            }
+        });
     }
 
     private void initIntegralTextFields() {
@@ -191,8 +224,6 @@ public class PolynomialController {
             // some chars like the period have special meanings in regular expressions and must be escaped with \\
             // the + means the pattern may be repeated one or more times
             if (newValue.matches("^[+-]?[0-9]+(\\.[0-9]+)?$")) {
-                mathCanvas.integralGC.clearRect(0, 0, mathCanvas.integralLayer.getWidth(),
-                        mathCanvas.integralLayer.getHeight());
                 try {
                     this.showIntegral(selectedPolynomial);
                 } catch (WrongInputSizeException e) {
@@ -206,191 +237,82 @@ public class PolynomialController {
 
         integralTextField1.textProperty().addListener(listener);
         integralTextField2.textProperty().addListener(listener);
-    }
-
-    private void initializeSpinners(List<Spinner<Double>> spinners) {
-        StringConverter<Double> stringConverter = new StringConverter<>() {
-            @Override
-            public String toString(Double doubleInput) {
-                if (doubleInput == 0.0) {
-                    return "0.0";
-                }
-                return Double.toString(doubleInput);
-            }
-
-            @Override
-            public Double fromString(String string) {
-                if (Objects.equals(string, "")) {
-                    return 0.0;
-                }
-                //Replace comma with point
-                string = string.replace(",", ".");
-                try {
-                    return Double.parseDouble(string);
-                } catch (NumberFormatException numberFormatException) {
-                    return 0.0;
-                }
-            }
-        };
-
-        UnaryOperator<TextFormatter.Change> filter = change -> {
-            String newString = change.getControlNewText();
-            if (newString.matches("-?([0-9]+[.,]?[0-9]*)*")) {
-                return change;
-            } else return null;
-        };
-
-        //Loop that iterates trough spinners for less code repetition
-        for (int i = 0; i < spinners.size(); i++) {
-            TextFormatter<Double> textFormatter = new TextFormatter<>(stringConverter, 0.0, filter);
-            Spinner<Double> spinner = spinners.get(i);
-            //Set value factory
-            spinner.setValueFactory(new SpinnerValueFactory.DoubleSpinnerValueFactory(-Double.MAX_VALUE, Double.MAX_VALUE, 0.0, 0.1));
-
-            spinner.getEditor().setTextFormatter(textFormatter);
-
-            //Spinner is the last spinner in the list, so set eventHandler to submit input if enter is pressed
-            if (i == spinners.size() - 1) {
-                spinner.addEventHandler(KeyEvent.KEY_PRESSED, keyEvent -> {
-                    if (keyEvent.getCode() == KeyCode.ENTER) {
-                        System.out.println("Ready for confirmation");
-                    }
-                });
-            }
-            //Spinner is not the last in list, set event handler to set focus on next spinner when enter is pressed
-            else {
-                Spinner<Double> nextSpinner = spinners.get(i + 1);
-                spinner.addEventHandler(KeyEvent.KEY_PRESSED, keyEvent -> {
-                    if (keyEvent.getCode() == KeyCode.ENTER) {
-                        nextSpinner.requestFocus();
-                        keyEvent.consume();
-                    }
-                });
-            }
-
-        }
         addChangeListenerToIntegralInput(integralTextField1);
         addChangeListenerToIntegralInput(integralTextField2);
     }
 
     private void initializeVisuals() {
-        ChangeListener<Number> changeListener = (oldValue, newValue, observable)-> {
-            mathCanvas.clearPreviewPoint();
-            redrawContent();
-        };
+        // the canvas redraws itself after a resize, only the preview point is outdated
+        ChangeListener<Number> changeListener = (oldValue, newValue, observable)-> mathCanvas.clearPreviewPoint();
         mathCanvas.widthProperty().addListener(changeListener);
         mathCanvas.heightProperty().addListener(changeListener);
     }
 
     public void addPolynomial(ActionEvent event) {
-        try {
-            // load DialogPane and its contents
-            FXMLLoader loadDialog = new FXMLLoader(Objects.requireNonNull(getClass().getResource("input_dialog.fxml")));
-            // load the button that made the call
-            Button callButton = (Button) event.getTarget();
-            // define dialog along with its child elements
-            Dialog<double[]> polyDialog = new Dialog<>();
-            Parent root = loadDialog.load();
-            DialogPane polyPane = polyDialog.getDialogPane();
-            polyPane.setContent(root);
-            ObservableMap<String, Object> namespace = loadDialog.getNamespace();
-            ArrayList<Spinner<Double>> spinners = new ArrayList<>(6);
-            ColorPicker colorPicker = (ColorPicker) namespace.get("polyColorPicker");
-
-
-            ButtonType okButton = new ButtonType("Bestätigen", ButtonBar.ButtonData.OK_DONE);
-            ButtonType cancelButton = new ButtonType("Abbrechen", ButtonBar.ButtonData.CANCEL_CLOSE);
-            polyPane.getButtonTypes().addAll(okButton, cancelButton);
-            polyPane.lookupButton(okButton).setStyle("-fx-base: #f4f4f4;");
-
-            // add spinners to array
-            spinners.addAll(getSpinners(namespace));
-            // initialize the spinners after they've been added to the array
-            initializeSpinners(spinners);
-            // initialize spinners with values if user clicked on edit
-            if (callButton.getUserData().equals("edit") && selectedPolynomial != null) {
-                for (int i = 0; i < spinners.size(); i++) {
-                    spinners.get(spinners.size() - 1 - i).getValueFactory().setValue(selectedPolynomial.getCoefficients()[i]);
-                }
-                colorPicker.setValue(selectedPolynomial.polyColor);
-                polyDialog.setTitle("Polynom Bearbeiten");
-            } else if (callButton.getUserData().equals("edit")) {
-                return;
-            } else {
-                colorPicker.setValue(Color.rgb(new Random().nextInt(256), new Random().nextInt(256),
-                        new Random().nextInt(256)));
-                polyDialog.setTitle("Polynom Erstellen");
-            }
-
-            polyDialog.setResultConverter(buttonType -> {
-                if (buttonType.getButtonData() == ButtonBar.ButtonData.OK_DONE) {
-                    return new double[]{spinners.get(5).getValue(), spinners.get(4).getValue(),
-                            spinners.get(3).getValue(), spinners.get(2).getValue(), spinners.get(1).getValue(),
-                            spinners.get(0).getValue()};
-                }
-                return null;
-            });
-
-            polyDialog.showAndWait().ifPresent(result -> {
-                try {
-                    boolean allZeroes = true;
-                    for (double coefficient : result) {
-                        if (coefficient != 0.0) {
-                            allZeroes = false;
-                            break;
-                        }
-                    }
-                    if (!allZeroes) {
-                        if (!callButton.getUserData().equals("edit")) {
-                            submitInput(result, colorPicker.getValue());
-                        } else {
-                            mathCanvas.polynomialArray.remove(selectedPolynomial);
-                            polynomialsCB.getItems().remove(selectedPolynomial.toString());
-                            selectedPolynomial = new Polynomial(result, colorPicker.getValue());
-                            mathCanvas.polynomialArray.add(selectedPolynomial);
-                            updatePolynomialChoiceBox(selectedPolynomial);
-                            redrawContent();
-                        }
-                    }
-                } catch (WrongInputSizeException e) {
-                    Label inputWarningLabel = (Label) namespace.get("inputWarningLabel");
-                    HBox warningHBox = (HBox) namespace.get("warningHBox");
-                    warningHBox.setManaged(true);
-                    inputWarningLabel.setVisible(true);
-                }
-            });
+        // load the button that made the call
+        Button callButton = (Button) event.getTarget();
+        boolean edit = callButton.getUserData().equals("edit");
+        if (edit && selectedPolynomial == null) {
+            return;
+        }
 
-        } catch (IOException e) {
+        Optional<double[]> input;
+        try {
+            // The dialog was built in the background after startup, opening it only resets its values
+            input = edit
+                    ? inputDialog.showAndWait("Polynom Bearbeiten", selectedPolynomial.getCoefficients(), selectedPolynomial.getColor())
+                    : inputDialog.showAndWait("Polynom Erstellen", null, Color.rgb(new Random().nextInt(256),
+                            new Random().nextInt(256), new Random().nextInt(256)));
+        } catch (CompletionException e) {
+            // input_dialog.fxml couldn't be loaded
             e.printStackTrace();
+            return;
         }
-    }
 
-    @SuppressWarnings("unchecked")
-    public ArrayList<Spinner<Double>> getSpinners(ObservableMap<String, Object> namespace) {
-        ArrayList<Spinner<Double>> returnArray = new ArrayList<>();
-        for (int i = 5; i >= 0; i--) {
+        input.ifPresent(result -> {
             try {
-                Spinner<Double> spinner = (Spinner<Double>) namespace.get("coefficient" + i + "spinner");
-                returnArray.add(spinner);
-            } catch (ClassCastException e) {
-                e.printStackTrace();
+                boolean allZeroes = true;
+                for (double coefficient : result) {
+                    if (coefficient != 0.0) {
+                        allZeroes = false;
+                        break;
+                    }
+                }
+                if (!allZeroes) {
+                    if (!edit) {
+                        submitInput(result, inputDialog.getColor());
+                    } else {
+                        long oldId = mathCanvas.polynomialRegistry.getId(selectedPolynomial);
+                        mathCanvas.polynomialRegistry.remove(oldId);
+                        selectedPolynomial = new Polynomial(result, inputDialog.getColor());
+                        updatePolynomialChoiceBox(mathCanvas.polynomialRegistry.add(selectedPolynomial));
+                        // the old curve has to disappear, so all curves are redrawn
+                        mathCanvas.invalidate(MathCanvas.Layer.CONTENT);
+                    }
+                }
+            } catch (WrongInputSizeException e) {
+                inputDialog.showWarning();
             }
-        }
-        return returnArray;
+        });
     }
 
     public void deletePolynomial() {
         if (selectedPolynomial != null) {
-            ArrayList<Polynomial> polyArray = mathCanvas.polynomialArray;
-            polyArray.remove(selectedPolynomial);
-            polynomialsCB.getItems().remove(selectedPolynomial.toString());
-            if (polyArray.size() > 0) {
-                selectedPolynomial = polyArray.get(polyArray.size() - 1);
+            long id = mathCanvas.polynomialRegistry.getId(selectedPolynomial);
+            mathCanvas.polynomialRegistry.remove(id);
+            List<Long> ids = mathCanvas.polynomialRegistry.getIds();
+            // the IDs are in the order the polynomials were added, select the newest one
+            if (!ids.isEmpty()) {
+                selectedPolynomial = mathCanvas.polynomialRegistry.get(ids.get(ids.size() - 1));
             } else {
                 selectedPolynomial = null;
+                analysisExecutor.cancel();
             }
             clearLabels();
-            redrawContent();
+            if (selectedPolynomial != null) {
+                drawAttributes(selectedPolynomial);
+            }
+            mathCanvas.invalidate(MathCanvas.Layer.CONTENT, MathCanvas.Layer.POINTS, MathCanvas.Layer.INTEGRAL);
             mathCanvas.clearPreviewPoint();
         }
     }
@@ -398,9 +320,9 @@ public class PolynomialController {
     private void submitInput(double[] coefficients, Color color) throws WrongInputSizeException {
         Polynomial newPolynomial;
         newPolynomial = new Polynomial(coefficients, color);
-        this.mathCanvas.polynomialArray.add(newPolynomial);
-        this.updatePolynomialChoiceBox(newPolynomial);
-        this.redrawContent();
+        this.updatePolynomialChoiceBox(this.mathCanvas.polynomialRegistry.add(newPolynomial));
+        // the other curves are still correct, the new one is only drawn on top of them
+        this.mathCanvas.invalidatePolynomial(newPolynomial);
     }
 
     /**
@@ -411,10 +333,20 @@ public class PolynomialController {
         // show symmetry and roots
         if (p.getDegree() <= 3 || aboveThirdDegree.isSelected()){
             showSymmetry(p);
-            showRoots(p);
-            showExtrema(p);
-            showInflectionPoints(p);
-            showSaddlePoints(p);
+            // roots and critical points are calculated in the background and shown once they are done
+            rootLabel.setText("Wird berechnet...");
+            extremaLabel.setText("Wird berechnet...");
+            inflectionLabel.setText("Wird berechnet...");
+            saddleLabel.setText("Wird berechnet...");
+            analysisExecutor.submit(p, analysis -> {
+                showRoots(p);
+                showExtrema(p);
+                showInflectionPoints(p);
+                showSaddlePoints(p);
+                mathCanvas.invalidate(MathCanvas.Layer.POINTS);
+            });
+        } else {
+            analysisExecutor.cancel();
         }
         // show information about polynomial
         showDegree(p);
@@ -427,6 +359,7 @@ public class PolynomialController {
     }
     @FXML
     private void onResetButtonClicked() {
+        analysisExecutor.cancel();
         mathCanvas.reset();
         clearLabels();
         resetPolynomialChoiceBox();
@@ -434,6 +367,8 @@ public class PolynomialController {
     }
 
     private void clearLabels() {
+        // an integral that is still being calculated belongs to the labels that are cleared
+        integralExecutor.cancel();
         symmetryLabel.setText("");
         rootLabel.setText("");
         symmetryLabel.setText("");
@@ -480,7 +415,7 @@ public class PolynomialController {
                 }
             }
 
-            if (mathCanvas.polynomialArray.isEmpty()) {
+            if (mathCanvas.polynomialRegistry.isEmpty()) {
                 return;
             }
 
@@ -498,8 +433,6 @@ public class PolynomialController {
 
             try {
                 showIntegral(selectedPolynomial);
-                redrawContent();
-                mathCanvas.drawIntegral(Double.parseDouble(integralTextField1.getText()), Double.parseDouble(integralTextField2.getText()), selectedPolynomial);
             } catch (WrongInputSizeException e) {
                 e.printStackTrace();
             }
@@ -539,7 +472,6 @@ public class PolynomialController {
             labelText.append("Grad zu hoch");
         } else {
             for (Double root : roots) {
-                mathCanvas.drawPoint(root, 0.0, zeroPointColor);
                 labelText.append(root).append("; ");
             }
             labelText.delete(labelText.length() - 2, labelText.length());
@@ -550,14 +482,13 @@ public class PolynomialController {
 
     private void showExtrema(Polynomial polynomial) {
         try {
-            ArrayList<double[]> extremaArray = polynomial.extrema;
+            ArrayList<double[]> extremaArray = polynomial.getExtrema();
             StringBuilder labelText = new StringBuilder();
 
             if (extremaArray.size() == 0) {
                 labelText.append("Keine Extremstellen");
             } else {
                 for (double[] extrema : extremaArray) {
-                    mathCanvas.drawPoint(extrema[0], extrema[1], extremaColor);
                     labelText.append("(")
                             .append(UtilityClasses.roundToSecondDecimalPoint(extrema[0]))
                             .append(", ")
@@ -575,22 +506,30 @@ public class PolynomialController {
 
     private void showIntegral(Polynomial polynomial) throws WrongInputSizeException {
         if (!integralTextField1.getText().isEmpty() && !integralTextField2.getText().isEmpty() && polynomial != null) {
-            double area = polynomial.getIntegral(Double.parseDouble(integralTextField1.getText()), Double.parseDouble(integralTextField2.getText()));
-            integralLabel.setText(String.valueOf(UtilityClasses.roundToSecondDecimalPoint(area)));
-            mathCanvas.drawIntegral(Double.parseDouble(integralTextField1.getText()), Double.parseDouble(integralTextField2.getText()), selectedPolynomial);
+            double x1 = Double.parseDouble(integralTextField1.getText());
+            double x2 = Double.parseDouble(integralTextField2.getText());
+            mathCanvas.invalidate(MathCanvas.Layer.INTEGRAL);
+            // Once the roots are known an integral only costs a few evaluations, finding them is done in the background
+            if (polynomial.isIntegralPrepared()) {
+                integralExecutor.cancel();
+                integralLabel.setText(String.valueOf(UtilityClasses.roundToSecondDecimalPoint(polynomial.getIntegral(x1, x2))));
+            } else {
+                integralLabel.setText("Wird berechnet...");
+                integralExecutor.submit(() -> polynomial.getIntegral(x1, x2),
+                        area -> integralLabel.setText(String.valueOf(UtilityClasses.roundToSecondDecimalPoint(area))));
+            }
         }
     }
 
     private void showInflectionPoints(Polynomial polynomial) {
         try {
-            ArrayList<double[]> inflectionArray = polynomial.inflections;
+            ArrayList<double[]> inflectionArray = polynomial.getInflections();
             StringBuilder labelText = new StringBuilder();
 
             if (inflectionArray.size() == 0) {
                 labelText.append("Keine Wendepunkte");
             } else {
                 for (double[] inflection : inflectionArray) {
-                    mathCanvas.drawPoint(inflection[0], inflection[1], inflectionsPointColor);
                     labelText.append("(")
                             .append(UtilityClasses.roundToSecondDecimalPoint(inflection[0]))
                             .append(", ")
@@ -610,14 +549,13 @@ public class PolynomialController {
 
     private void showSaddlePoints(Polynomial polynomial) {
         try {
-            ArrayList<double[]> saddleArray = polynomial.saddles;
+            ArrayList<double[]> saddleArray = polynomial.getSaddles();
             StringBuilder labelText = new StringBuilder();
 
             if (saddleArray.size() == 0) {
                 labelText.append("Keine Sattelpunkte");
             } else {
                 for (double[] saddlePoint : saddleArray) {
-                    mathCanvas.drawPoint(saddlePoint[0] , saddlePoint[1], saddlePointColor);
                     labelText.append("(")
                             .append(UtilityClasses.roundToSecondDecimalPoint(saddlePoint[0]))
                             .append(", ")
@@ -640,13 +578,19 @@ public class PolynomialController {
         } else {
             mathCanvas.scroll(scrollEvent.getDeltaX(), scrollEvent.getDeltaY());
         }
-        this.redrawContent();
+        // the canvas redraws itself once per pulse, no matter how many scroll events arrive in between
         scaleChoiceBox.setValue("");
         scaleTextField1.clear();
         scaleTextField2.clear();
     }
 
     public void onMouseClickedOnCanvas(MouseEvent mouseEvent) {
+        // A click on another curve only selects it, the next click adds the point
+        Polynomial clickedPolynomial = mathCanvas.findPolynomialAt(mouseEvent.getX(), mouseEvent.getY());
+        if (clickedPolynomial != null && clickedPolynomial != selectedPolynomial && mouseEvent.getClickCount() == 1) {
+            polynomialsCB.setValue(mathCanvas.polynomialRegistry.getId(clickedPolynomial));
+            return;
+        }
         double mathX = mathCanvas.canvasXCoordinateToMathXCoordinateUnrounded(mouseEvent.getX());
         double mathY = mathCanvas.canvasYCoordinateToMathYCoordinateUnrounded(mouseEvent.getY());
 
@@ -668,23 +612,23 @@ public class PolynomialController {
             }
         } else if (mathCanvas.pointsArray.size() > 1 && mouseEvent.getClickCount() > 1) {
             mathCanvas.pointsArray.clear();
-            mathCanvas.pointsGC.clearRect(0, 0, mathCanvas.integralLayer.getWidth(),
-                    mathCanvas.integralLayer.getHeight());
-            redrawPolynomialPoints();
+            mathCanvas.invalidate(MathCanvas.Layer.POINTS);
         }
     }
 
     public void setPreviewPoint(double x) {
-        double mathX = mathCanvas.canvasXCoordinateToMathXCoordinateUnrounded(x);
-        double mathY = selectedPolynomial.functionValue(mathX);
-        mathCanvas.setPreviewPoint(mathX, mathY);
-        mathCanvas.drawPreviewPoint(previewPointColor);
+        // the point is calculated and drawn once per pulse, not for every mouse movement
+        mathCanvas.requestPreviewPoint(selectedPolynomial, x, previewPointColor);
     }
 
     public void redrawPolynomialPoints() {
-        ArrayList<double[]> extrema = selectedPolynomial.extrema;
-        ArrayList<double[]> inflections = selectedPolynomial.inflections;
-        ArrayList<double[]> saddles = selectedPolynomial.saddles;
+        // If the analysis is still running, the points are drawn as soon as it is finished
+        if (selectedPolynomial == null || !selectedPolynomial.isAnalysed()) {
+            return;
+        }
+        ArrayList<double[]> extrema = selectedPolynomial.getExtrema();
+        ArrayList<double[]> inflections = selectedPolynomial.getInflections();
+        ArrayList<double[]> saddles = selectedPolynomial.getSaddles();
 
         for (double[] point: extrema) {
                 mathCanvas.drawPoint(point[0], point[1],extremaColor);
@@ -705,12 +649,10 @@ public class PolynomialController {
 
     public void resetScaling() {
         mathCanvas.resetScaling();
-        this.redrawContent();
     }
 
     public void returnToOrigin() {
         mathCanvas.returnToOrigin();
-        this.redrawContent();
     }
 
     public void setScale(){
@@ -719,7 +661,6 @@ public class PolynomialController {
             double rangeInput2 = Double.parseDouble(scaleTextField2.getText());
             try {
                 mathCanvas.setRange(Math.min(rangeInput1, rangeInput2), Math.max(rangeInput1, rangeInput2));
-                redrawContent();
                 scaleTextField1.setStyle("-fx-text-fill: black;");
                 scaleTextField2.setStyle("-fx-text-fill: black;");
             }
@@ -731,6 +672,8 @@ public class PolynomialController {
     }
 
     public void onMouseMovedOnCanvas(MouseEvent mouseEvent) {
+        // the index only looks at the buckets around the mouse, no polynomial is evaluated for this
+        mathCanvas.setHighlightedPolynomial(mathCanvas.findPolynomialAt(mouseEvent.getX(), mouseEvent.getY()));
         if(selectedPolynomial != null) {
             double x = mouseEvent.getX();
             setPreviewPoint(x);
@@ -0,0 +1,228 @@
+package com.polynomjavafx;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableMap;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.control.*;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.paint.Color;
+import javafx.util.StringConverter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+
+/**
+ * Dialog for the coefficients and the color of a polynomial. It is built only once: input_dialog.fxml is loaded
+ * on a background thread right after startup, the dialog around it is created on the JavaFX Application Thread
+ * afterwards and every opening only resets the entered values. All methods have to be called from the JavaFX
+ * Application Thread
+ */
+public class PolynomialInputDialog {
+    private final CompletableFuture<FXMLLoader> content;
+    private Dialog<double[]> dialog;
+    private ArrayList<Spinner<Double>> spinners;
+    private ColorPicker colorPicker;
+    private TextField coefficientListField;
+    private Label inputWarningLabel;
+    private HBox warningHBox;
+
+    /**
+     * Starts loading the dialog in the background, it can be shown as soon as this constructor returned
+     */
+    public PolynomialInputDialog() {
+        this.content = CompletableFuture.supplyAsync(PolynomialInputDialog::loadContent, runnable -> {
+            Thread thread = new Thread(runnable, "input-dialog-preload");
+            // Don't keep the application alive if it is closed while loading
+            thread.setDaemon(true);
+            thread.start();
+        });
+        // Build the dialog when the Application Thread has time, so the first click doesn't have to do it
+        this.content.thenRunAsync(this::build, Platform::runLater);
+    }
+
+    private static FXMLLoader loadContent() {
+        // The controls are only created here, they aren't part of a scene yet, so any thread may do it
+        FXMLLoader loader = new FXMLLoader(Objects.requireNonNull(PolynomialInputDialog.class.getResource("input_dialog.fxml")));
+        try {
+            loader.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return loader;
+    }
+
+    private void build() {
+        if (dialog != null) {
+            return;
+        }
+        // Only waits if the dialog is opened before the background thread finished loading
+        FXMLLoader loader = content.join();
+        ObservableMap<String, Object> namespace = loader.getNamespace();
+        spinners = getSpinners(namespace);
+        colorPicker = (ColorPicker) namespace.get("polyColorPicker");
+        coefficientListField = (TextField) namespace.get("coefficientListField");
+        inputWarningLabel = (Label) namespace.get("inputWarningLabel");
+        warningHBox = (HBox) namespace.get("warningHBox");
+        initializeSpinners(spinners);
+
+        dialog = new Dialog<>();
+        DialogPane polyPane = dialog.getDialogPane();
+        polyPane.setContent(loader.<Parent>getRoot());
+        ButtonType okButton = new ButtonType("Bestätigen", ButtonBar.ButtonData.OK_DONE);
+        ButtonType cancelButton = new ButtonType("Abbrechen", ButtonBar.ButtonData.CANCEL_CLOSE);
+        polyPane.getButtonTypes().addAll(okButton, cancelButton);
+        polyPane.lookupButton(okButton).setStyle("-fx-base: #f4f4f4;");
+
+        // Keep the dialog open and show a warning if the coefficient list can't be read
+        polyPane.lookupButton(okButton).addEventFilter(ActionEvent.ACTION, actionEvent -> {
+            if (!coefficientListField.getText().isBlank()) {
+                try {
+                    UtilityClasses.parseCoefficientList(coefficientListField.getText());
+                } catch (NumberFormatException e) {
+                    showWarning();
+                    actionEvent.consume();
+                }
+            }
+        });
+
+        dialog.setResultConverter(buttonType -> {
+            if (buttonType.getButtonData() == ButtonBar.ButtonData.OK_DONE) {
+                // A coefficient list replaces the spinners, so any degree can be entered
+                if (!coefficientListField.getText().isBlank()) {
+                    return UtilityClasses.parseCoefficientList(coefficientListField.getText());
+                }
+                return new double[]{spinners.get(5).getValue(), spinners.get(4).getValue(),
+                        spinners.get(3).getValue(), spinners.get(2).getValue(), spinners.get(1).getValue(),
+                        spinners.get(0).getValue()};
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Resets the dialog, fills in the given polynomial and waits until it is closed
+     * @param title title of the dialog
+     * @param coefficients coefficients to edit ordered by ascending exponent, or null to start with 0
+     * @param color color shown in the color picker
+     * @return the entered coefficients ordered by ascending exponent, empty if the dialog was cancelled
+     */
+    public Optional<double[]> showAndWait(String title, double[] coefficients, Color color) {
+        build();
+
+        for (Spinner<Double> spinner : spinners) {
+            spinner.getValueFactory().setValue(0.0);
+            // Setting the same value doesn't update the editor, text typed before cancelling would survive otherwise
+            spinner.cancelEdit();
+        }
+        coefficientListField.clear();
+        warningHBox.setManaged(false);
+        inputWarningLabel.setVisible(false);
+        if (coefficients != null) {
+            // Polynomials that don't fit into the spinners are edited as coefficient list
+            if (coefficients.length <= spinners.size()) {
+                for (int i = 0; i < coefficients.length; i++) {
+                    spinners.get(spinners.size() - 1 - i).getValueFactory().setValue(coefficients[i]);
+                }
+            } else {
+                coefficientListField.setText(UtilityClasses.formatCoefficientList(coefficients));
+            }
+        }
+        colorPicker.setValue(color);
+        dialog.setTitle(title);
+        return dialog.showAndWait();
+    }
+
+    /**
+     * @return the color that was selected when the dialog was closed the last time
+     */
+    public Color getColor() {
+        return colorPicker.getValue();
+    }
+
+    /**
+     * Shows the warning about an invalid input, it disappears with the next opening
+     */
+    public void showWarning() {
+        warningHBox.setManaged(true);
+        inputWarningLabel.setVisible(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArrayList<Spinner<Double>> getSpinners(ObservableMap<String, Object> namespace) {
+        ArrayList<Spinner<Double>> returnArray = new ArrayList<>();
+        for (int i = 5; i >= 0; i--) {
+            try {
+                Spinner<Double> spinner = (Spinner<Double>) namespace.get("coefficient" + i + "spinner");
+                returnArray.add(spinner);
+            } catch (ClassCastException e) {
+                e.printStackTrace();
+            }
+        }
+        return returnArray;
+    }
+
+    private static void initializeSpinners(List<Spinner<Double>> spinners) {
+        StringConverter<Double> stringConverter = new StringConverter<>() {
+            @Override
+            public String toString(Double doubleInput) {
+                if (doubleInput == 0.0) {
+                    return "0.0";
+                }
+                return Double.toString(doubleInput);
+            }
+
+            @Override
+            public Double fromString(String string) {
+                if (Objects.equals(string, "")) {
+                    return 0.0;
+                }
+                //Replace comma with point
+                string = string.replace(",", ".");
+                try {
+                    return Double.parseDouble(string);
+                } catch (NumberFormatException numberFormatException) {
+                    return 0.0;
+                }
+            }
+        };
+
+        UnaryOperator<TextFormatter.Change> filter = change -> {
+            String newString = change.getControlNewText();
+            if (newString.matches("-?([0-9]+[.,]?[0-9]*)*")) {
+                return change;
+            } else return null;
+        };
+
+        //Loop that iterates trough spinners for less code repetition
+        for (int i = 0; i < spinners.size(); i++) {
+            TextFormatter<Double> textFormatter = new TextFormatter<>(stringConverter, 0.0, filter);
+            Spinner<Double> spinner = spinners.get(i);
+            //Set value factory
+            spinner.setValueFactory(new SpinnerValueFactory.DoubleSpinnerValueFactory(-Double.MAX_VALUE, Double.MAX_VALUE, 0.0, 0.1));
+
+            spinner.getEditor().setTextFormatter(textFormatter);
+
+            //Spinner is not the last in list, set event handler to set focus on next spinner when enter is pressed
+            if (i < spinners.size() - 1) {
+                Spinner<Double> nextSpinner = spinners.get(i + 1);
+                spinner.addEventHandler(KeyEvent.KEY_PRESSED, keyEvent -> {
+                    if (keyEvent.getCode() == KeyCode.ENTER) {
+                        nextSpinner.requestFocus();
+                        keyEvent.consume();
+                    }
+                });
+            }
+
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.polynomjavafx;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The polynomials shown on the canvas, each with a numeric ID that never changes and is never reused. Two equal
+ * polynomials are still different entries. Adding, removing and looking up by ID or by polynomial take constant
+ * time, and the label of every entry is formatted only once, when it is added. The IDs are also kept in an
+ * observable list for the selection, see {@link #getIds()}
+ */
+public class PolynomialRegistry {
+    // Returned by getId for polynomials that aren't registered
+    public static final long NO_ID = -1;
+
+    // Ordered by insertion, which is also the order the curves are drawn in
+    private final LinkedHashMap<Long, Polynomial> polynomials = new LinkedHashMap<>();
+    private final HashMap<Long, String> labels = new HashMap<>();
+    // Polynomials are compared by identity, equal polynomials with different IDs must not collide
+    private final Map<Polynomial, Long> ids = new IdentityHashMap<>();
+    private final Collection<Polynomial> polynomialView = Collections.unmodifiableCollection(polynomials.values());
+    // IDs only grow, so appending keeps this list sorted and an ID is found by binary search instead of equals
+    private final ObservableList<Long> idList = FXCollections.observableArrayList();
+    private final ObservableList<Long> idView = FXCollections.unmodifiableObservableList(idList);
+    private long nextId = 0;
+
+    /**
+     * Registers a polynomial under a new ID
+     * @param polynomial polynomial to add, must not be registered already
+     * @return the ID of the polynomial
+     */
+    public long add(Polynomial polynomial) {
+        if (ids.containsKey(polynomial)) {
+            throw new IllegalArgumentException("The polynomial is already registered");
+        }
+        long id = nextId++;
+        polynomials.put(id, polynomial);
+        labels.put(id, polynomial.toString());
+        ids.put(polynomial, id);
+        idList.add(id);
+        return id;
+    }
+
+    /**
+     * @return the polynomial with the ID, or null if there is none
+     */
+    public Polynomial get(long id) {
+        return polynomials.get(id);
+    }
+
+    /**
+     * @return the text shown for the polynomial with the ID, or an empty text if there is none
+     */
+    public String getLabel(long id) {
+        return labels.getOrDefault(id, "");
+    }
+
+    /**
+     * @return the ID of the polynomial, or {@link #NO_ID} if it isn't registered
+     */
+    public long getId(Polynomial polynomial) {
+        Long id = ids.get(polynomial);
+        return id != null ? id : NO_ID;
+    }
+
+    public boolean contains(Polynomial polynomial) {
+        return ids.containsKey(polynomial);
+    }
+
+    /**
+     * Removes the polynomial with the ID, its ID isn't used again
+     * @return the removed polynomial, or null if there was none
+     */
+    public Polynomial remove(long id) {
+        Polynomial polynomial = polynomials.remove(id);
+        if (polynomial != null) {
+            labels.remove(id);
+            ids.remove(polynomial);
+            idList.remove(Collections.binarySearch(idList, id));
+        }
+        return polynomial;
+    }
+
+    /**
+     * @return all polynomials in the order they were added, as a read-only view
+     */
+    public Collection<Polynomial> getPolynomials() {
+        return polynomialView;
+    }
+
+    /**
+     * @return the IDs in the order the polynomials were added, which is also ascending, as a read-only view
+     */
+    public ObservableList<Long> getIds() {
+        return idView;
+    }
+
+    public int size() {
+        return polynomials.size();
+    }
+
+    public boolean isEmpty() {
+        return polynomials.isEmpty();
+    }
+
+    public void clear() {
+        polynomials.clear();
+        labels.clear();
+        ids.clear();
+        idList.clear();
+    }
+}
@@ -0,0 +1,304 @@
+package com.polynomjavafx;
+
+import java.util.Arrays;
+
+/**
+ * Image in a plain ARGB int array with the few antialiased drawing operations a plot needs, so plots can be
+ * rendered without JavaFX, e.g. on a server without a display. Coordinates are the same as on a JavaFX canvas:
+ * the center of the pixel (i, j) is at (i + 0.5, j + 0.5). Everything drawn is blended over the existing pixels.
+ * An image must only be drawn on by one thread at a time, different images can be drawn concurrently
+ */
+public final class RasterImage {
+    // Size of the bitmap font: every glyph has 5 x 7 pixels and one pixel space to the next one
+    static final int GLYPH_WIDTH = 5;
+    static final int GLYPH_HEIGHT = 7;
+    static final int GLYPH_ADVANCE = GLYPH_WIDTH + 1;
+    // Characters of numbers and point labels like "(1.5, -2.0E-4)", every row of a glyph is one int
+    private static final String GLYPH_CHARACTERS = "0123456789.-,()E ";
+    private static final int[][] GLYPHS = {
+            {0x0E, 0x11, 0x13, 0x15, 0x19, 0x11, 0x0E},
+            {0x04, 0x0C, 0x04, 0x04, 0x04, 0x04, 0x0E},
+            {0x0E, 0x11, 0x01, 0x02, 0x04, 0x08, 0x1F},
+            {0x1F, 0x02, 0x04, 0x02, 0x01, 0x11, 0x0E},
+            {0x02, 0x06, 0x0A, 0x12, 0x1F, 0x02, 0x02},
+            {0x1F, 0x10, 0x1E, 0x01, 0x01, 0x11, 0x0E},
+            {0x06, 0x08, 0x10, 0x1E, 0x11, 0x11, 0x0E},
+            {0x1F, 0x01, 0x02, 0x04, 0x08, 0x08, 0x08},
+            {0x0E, 0x11, 0x11, 0x0E, 0x11, 0x11, 0x0E},
+            {0x0E, 0x11, 0x11, 0x0F, 0x01, 0x02, 0x0C},
+            {0x00, 0x00, 0x00, 0x00, 0x00, 0x0C, 0x0C},
+            {0x00, 0x00, 0x00, 0x1F, 0x00, 0x00, 0x00},
+            {0x00, 0x00, 0x00, 0x00, 0x0C, 0x04, 0x08},
+            {0x02, 0x04, 0x08, 0x08, 0x08, 0x04, 0x02},
+            {0x08, 0x04, 0x02, 0x02, 0x02, 0x04, 0x08},
+            {0x1F, 0x10, 0x10, 0x1E, 0x10, 0x10, 0x1F},
+            {0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00}
+    };
+    // Polygons are sampled on this many rows per pixel, horizontally the coverage is exact
+    private static final int SUBSAMPLES = 4;
+
+    private final int width;
+    private final int height;
+    private final int[] pixels;
+    // Reused by fillPolygon
+    private float[] coverage = new float[0];
+    private double[] crossings = new double[0];
+
+    public RasterImage(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("The image needs a positive width and height");
+        }
+        this.width = width;
+        this.height = height;
+        this.pixels = new int[width * height];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return the pixels row by row from the top left, as 0xAARRGGBB
+     */
+    public int[] getPixels() {
+        return pixels;
+    }
+
+    /**
+     * Replaces every pixel with the color, without blending
+     * @param argb color as 0xAARRGGBB
+     */
+    public void fill(int argb) {
+        Arrays.fill(pixels, argb);
+    }
+
+    /**
+     * Draws an antialiased line with Wu's algorithm. Lines thinner than one pixel are drawn one pixel wide but
+     * accordingly transparent, which looks like a thin line on a JavaFX canvas
+     * @param argb color as 0xAARRGGBB
+     * @param lineWidth width of the line, at most 1 pixel
+     */
+    public void strokeLine(double x0, double y0, double x1, double y1, int argb, double lineWidth) {
+        double opacity = Math.min(1.0, lineWidth);
+        // Wu's algorithm expects the pixel centers at whole numbers
+        x0 -= 0.5;
+        y0 -= 0.5;
+        x1 -= 0.5;
+        y1 -= 0.5;
+        boolean steep = Math.abs(y1 - y0) > Math.abs(x1 - x0);
+        if (steep) {
+            // Walk along y instead, so every step covers at most two pixels
+            double swap = x0;
+            x0 = y0;
+            y0 = swap;
+            swap = x1;
+            x1 = y1;
+            y1 = swap;
+        }
+        if (x0 > x1) {
+            double swap = x0;
+            x0 = x1;
+            x1 = swap;
+            swap = y0;
+            y0 = y1;
+            y1 = swap;
+        }
+        double gradient = x1 - x0 == 0.0 ? 1.0 : (y1 - y0) / (x1 - x0);
+
+        // Both ends only cover the part of their pixel column that belongs to the line
+        double xEnd = Math.rint(x0);
+        double yEnd = y0 + gradient * (xEnd - x0);
+        double gap = 1.0 - fraction(x0 + 0.5);
+        int start = (int) xEnd;
+        plotPair(steep, start, yEnd, gap * opacity, argb);
+        double startY = yEnd + gradient;
+
+        xEnd = Math.rint(x1);
+        yEnd = y1 + gradient * (xEnd - x1);
+        gap = fraction(x1 + 0.5);
+        int end = (int) xEnd;
+        plotPair(steep, end, yEnd, gap * opacity, argb);
+
+        // Only the columns inside the image are visited, lines can reach far outside of it, e.g. hidden axes
+        int first = Math.max(start + 1, 0);
+        int last = Math.min(end - 1, (steep ? height : width) - 1);
+        double y = startY + gradient * (first - start - 1);
+        for (int x = first; x <= last; x++) {
+            plotPair(steep, x, y, opacity, argb);
+            y += gradient;
+        }
+    }
+
+    /**
+     * Draws the connected line segments between the points
+     * @param count amount of points to use
+     */
+    public void strokePolyline(double[] xs, double[] ys, int count, int argb, double lineWidth) {
+        for (int i = 1; i < count; i++) {
+            strokeLine(xs[i - 1], ys[i - 1], xs[i], ys[i], argb, lineWidth);
+        }
+    }
+
+    /**
+     * Fills a circle with an antialiased border
+     */
+    public void fillCircle(double centerX, double centerY, double radius, int argb) {
+        int left = Math.max(0, (int) Math.floor(centerX - radius - 1.0));
+        int right = Math.min(width - 1, (int) Math.ceil(centerX + radius + 1.0));
+        int top = Math.max(0, (int) Math.floor(centerY - radius - 1.0));
+        int bottom = Math.min(height - 1, (int) Math.ceil(centerY + radius + 1.0));
+        for (int y = top; y <= bottom; y++) {
+            for (int x = left; x <= right; x++) {
+                // The pixel is covered as far as its center lies within half a pixel inside the border
+                double distance = Math.hypot(x + 0.5 - centerX, y + 0.5 - centerY);
+                double pixelCoverage = Math.min(1.0, radius + 0.5 - distance);
+                if (pixelCoverage > 0.0) {
+                    blend(x, y, argb, pixelCoverage);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills a polygon with the even-odd rule and antialiased edges, the last point is connected to the first one
+     * @param count amount of corners to use
+     */
+    public void fillPolygon(double[] xs, double[] ys, int count, int argb) {
+        if (count < 3) {
+            return;
+        }
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        int top = Math.max(0, (int) Math.floor(minY));
+        int bottom = Math.min(height - 1, (int) Math.ceil(maxY));
+        if (coverage.length < width + 1) {
+            coverage = new float[width + 1];
+        }
+        if (crossings.length < count) {
+            crossings = new double[count];
+        }
+
+        for (int row = top; row <= bottom; row++) {
+            Arrays.fill(coverage, 0, width + 1, 0.0f);
+            for (int sample = 0; sample < SUBSAMPLES; sample++) {
+                double sampleY = row + (sample + 0.5) / SUBSAMPLES;
+                int crossingCount = 0;
+                for (int i = 0, j = count - 1; i < count; j = i++) {
+                    // Half open, so a corner exactly on the sample row is only counted once
+                    if ((ys[i] <= sampleY) != (ys[j] <= sampleY)) {
+                        crossings[crossingCount++] = xs[i] + (sampleY - ys[i]) * (xs[j] - xs[i]) / (ys[j] - ys[i]);
+                    }
+                }
+                Arrays.sort(crossings, 0, crossingCount);
+                for (int i = 0; i + 1 < crossingCount; i += 2) {
+                    addSpan(crossings[i], crossings[i + 1]);
+                }
+            }
+            for (int x = 0; x < width; x++) {
+                if (coverage[x] > 0.0f) {
+                    blend(x, row, argb, Math.min(1.0f, coverage[x]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes text with the built-in bitmap font, like GraphicsContext.fillText at the baseline y.
+     * Characters the font doesn't contain are left empty
+     * @param x left border of the text
+     * @param y baseline of the text
+     */
+    public void fillText(String text, double x, double y, int argb) {
+        int left = (int) Math.round(x);
+        int top = (int) Math.round(y) - GLYPH_HEIGHT;
+        for (int i = 0; i < text.length(); i++) {
+            int index = GLYPH_CHARACTERS.indexOf(text.charAt(i));
+            if (index >= 0) {
+                int[] glyph = GLYPHS[index];
+                for (int row = 0; row < GLYPH_HEIGHT; row++) {
+                    for (int column = 0; column < GLYPH_WIDTH; column++) {
+                        if ((glyph[row] & (1 << (GLYPH_WIDTH - 1 - column))) != 0) {
+                            blend(left + column, top + row, argb, 1.0);
+                        }
+                    }
+                }
+            }
+            left += GLYPH_ADVANCE;
+        }
+    }
+
+    /**
+     * @return the width of the text in the bitmap font in pixels
+     */
+    static double textWidth(String text) {
+        return text.isEmpty() ? 0.0 : text.length() * GLYPH_ADVANCE - 1;
+    }
+
+    private void addSpan(double left, double right) {
+        // Every sample row adds its share of the pixel, partly covered pixels at the ends get their fraction
+        float weight = 1.0f / SUBSAMPLES;
+        left = Math.max(0.0, Math.min(width, left));
+        right = Math.max(0.0, Math.min(width, right));
+        int leftPixel = (int) left;
+        int rightPixel = (int) right;
+        if (leftPixel == rightPixel) {
+            coverage[leftPixel] += (float) (right - left) * weight;
+            return;
+        }
+        coverage[leftPixel] += (float) (leftPixel + 1 - left) * weight;
+        for (int x = leftPixel + 1; x < rightPixel; x++) {
+            coverage[x] += weight;
+        }
+        coverage[rightPixel] += (float) (right - rightPixel) * weight;
+    }
+
+    private void plotPair(boolean steep, int x, double y, double opacity, int argb) {
+        // The line covers the two pixels next to y in proportion to its distance to them
+        int lower = (int) Math.floor(y);
+        double share = y - lower;
+        if (steep) {
+            blend(lower, x, argb, (1.0 - share) * opacity);
+            blend(lower + 1, x, argb, share * opacity);
+        } else {
+            blend(x, lower, argb, (1.0 - share) * opacity);
+            blend(x, lower + 1, argb, share * opacity);
+        }
+    }
+
+    private static double fraction(double value) {
+        return value - Math.floor(value);
+    }
+
+    /**
+     * Draws the color over the pixel with the given opacity, pixels outside the image are ignored
+     */
+    private void blend(int x, int y, int argb, double opacity) {
+        if (x < 0 || y < 0 || x >= width || y >= height || opacity <= 0.0) {
+            return;
+        }
+        int index = y * width + x;
+        double alpha = (argb >>> 24) / 255.0 * opacity;
+        int destination = pixels[index];
+        double destinationAlpha = (destination >>> 24) / 255.0;
+        double resultAlpha = alpha + destinationAlpha * (1.0 - alpha);
+        if (resultAlpha <= 0.0) {
+            return;
+        }
+        int result = (int) Math.round(resultAlpha * 255.0) << 24;
+        for (int shift = 0; shift <= 16; shift += 8) {
+            double source = (argb >>> shift) & 0xFF;
+            double target = (destination >>> shift) & 0xFF;
+            double channel = (source * alpha + target * destinationAlpha * (1.0 - alpha)) / resultAlpha;
+            result |= (int) Math.round(channel) << shift;
+        }
+        pixels[index] = result;
+    }
+}
@@ -0,0 +1,24 @@
+package com.polynomjavafx;
+
+import java.util.ArrayList;
+
+/**
+ * Strategy for finding the roots of a polynomial.
+ * Coefficients are ordered by ascending exponent, just like in {@link Polynomial}: index i belongs to x^i
+ */
+public interface RootSolver {
+
+    /**
+     * Finds the real roots of the polynomial
+     * @param coefficients coefficients of the polynomial, read-only because it may be the array of the polynomial
+     * @return the real roots, unrounded and not necessarily sorted or free of duplicates
+     */
+    ArrayList<Double> findRealRoots(double[] coefficients);
+
+    /**
+     * Finds the complex roots of the polynomial, real roots included
+     * @param coefficients coefficients of the polynomial, read-only because it may be the array of the polynomial
+     * @return the roots as {real part, imaginary part}
+     */
+    ArrayList<double[]> findComplexRoots(double[] coefficients);
+}
@@ -0,0 +1,186 @@
+package com.polynomjavafx;
+
+/**
+ * Sparse representation of a polynomial like x^400 - 3x^17 + 2: only the terms whose coefficient isn't 0 are
+ * stored, as two primitive arrays ordered by ascending exponent. Used by {@link Polynomial} when only a small
+ * part of the dense coefficient array would be filled
+ */
+final class SparseTerms {
+    // Polynomials up to this degree are always stored densely, the dense array is small anyway
+    private static final int MIN_SPARSE_DEGREE = 16;
+    // Use the sparse representation if at most this share of the coefficients is not 0
+    private static final double MAX_FILL_RATIO = 0.25;
+
+    final int[] exponents;
+    final double[] coefficients;
+
+    private SparseTerms(int[] exponents, double[] coefficients) {
+        this.exponents = exponents;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * Creates the sparse representation of dense coefficients if it is worth it
+     * @param dense coefficients ordered by ascending exponent
+     * @return the sparse terms, or null if the dense array should be used
+     */
+    static SparseTerms fromDenseIfSparse(double[] dense) {
+        int degree = Polynomial.getDegree(dense);
+        int terms = 0;
+        for (int i = 0; i <= degree; i++) {
+            if (dense[i] != 0) {
+                terms++;
+            }
+        }
+        if (!isWorthwhile(degree, terms)) {
+            return null;
+        }
+
+        int[] exponents = new int[terms];
+        double[] coefficients = new double[terms];
+        int index = 0;
+        for (int i = 0; i <= degree; i++) {
+            if (dense[i] != 0) {
+                exponents[index] = i;
+                coefficients[index] = dense[i];
+                index++;
+            }
+        }
+        return new SparseTerms(exponents, coefficients);
+    }
+
+    /**
+     * Checks whether the sparse representation saves enough compared to a dense array
+     * @param degree degree of the polynomial
+     * @param terms amount of coefficients that are not 0
+     */
+    static boolean isWorthwhile(int degree, int terms) {
+        return degree >= MIN_SPARSE_DEGREE && terms <= MAX_FILL_RATIO * (degree + 1);
+    }
+
+    int size() {
+        return exponents.length;
+    }
+
+    int getDegree() {
+        return exponents.length == 0 ? 0 : exponents[exponents.length - 1];
+    }
+
+    double[] toDense() {
+        double[] dense = new double[getDegree() + 1];
+        for (int i = 0; i < exponents.length; i++) {
+            dense[exponents[i]] = coefficients[i];
+        }
+        return dense;
+    }
+
+    /**
+     * Horner's method over the stored terms only: the gap between two exponents is bridged with x^gap,
+     * which is calculated by exponentiation by squaring
+     */
+    double functionValue(double x) {
+        if (exponents.length == 0) {
+            return 0.0;
+        }
+        int last = exponents.length - 1;
+        double functionValue = coefficients[last];
+        for (int i = last - 1; i >= 0; i--) {
+            functionValue = functionValue * power(x, exponents[i + 1] - exponents[i]) + coefficients[i];
+        }
+        return functionValue * power(x, exponents[0]);
+    }
+
+    /**
+     * Same as {@link Polynomial#newtonStep(double[], double)}, but skips the missing terms
+     */
+    double newtonStep(double x) {
+        double value = 0.0;
+        double derivative = 0.0;
+        int previousExponent = getDegree();
+        for (int i = exponents.length - 1; i >= -1; i--) {
+            int exponent = i >= 0 ? exponents[i] : 0;
+            int gap = previousExponent - exponent;
+            if (gap > 0) {
+                // (value * x^gap)' = derivative * x^gap + value * gap * x^(gap - 1)
+                double powerBelow = power(x, gap - 1);
+                double power = powerBelow * x;
+                derivative = derivative * power + value * gap * powerBelow;
+                value = value * power;
+            }
+            if (i >= 0) {
+                value += coefficients[i];
+            }
+            previousExponent = exponent;
+        }
+        return value / derivative;
+    }
+
+    /**
+     * Derivative term by term, terms with exponent 0 disappear
+     */
+    SparseTerms derivative() {
+        int start = exponents.length > 0 && exponents[0] == 0 ? 1 : 0;
+        int[] newExponents = new int[exponents.length - start];
+        double[] newCoefficients = new double[exponents.length - start];
+        for (int i = start; i < exponents.length; i++) {
+            newExponents[i - start] = exponents[i] - 1;
+            newCoefficients[i - start] = exponents[i] * coefficients[i];
+        }
+        return new SparseTerms(newExponents, newCoefficients);
+    }
+
+    /**
+     * Antiderivative term by term with the constant 0
+     */
+    SparseTerms antiderivative() {
+        int[] newExponents = new int[exponents.length];
+        double[] newCoefficients = new double[exponents.length];
+        for (int i = 0; i < exponents.length; i++) {
+            newExponents[i] = exponents[i] + 1;
+            newCoefficients[i] = coefficients[i] / (exponents[i] + 1);
+        }
+        return new SparseTerms(newExponents, newCoefficients);
+    }
+
+    /**
+     * Same as {@link Polynomial#valueBounds(double[], double, double, double[])}, the gap between two exponents
+     * is bridged with the interval power, which is exact for a single factor
+     */
+    void valueBounds(double lower, double upper, double[] out) {
+        double low = 0.0;
+        double high = 0.0;
+        int previousExponent = getDegree();
+        for (int i = exponents.length - 1; i >= -1; i--) {
+            int exponent = i >= 0 ? exponents[i] : 0;
+            int gap = previousExponent - exponent;
+            if (gap > 0) {
+                Polynomial.intervalPower(lower, upper, gap, out);
+                Polynomial.intervalMultiply(low, high, out[0], out[1], out);
+                low = out[0];
+                high = out[1];
+            }
+            if (i >= 0) {
+                low += coefficients[i];
+                high += coefficients[i];
+            }
+            previousExponent = exponent;
+        }
+        out[0] = low;
+        out[1] = high;
+    }
+
+    /**
+     * Calculates base^exponent with O(log exponent) multiplications
+     */
+    static double power(double base, int exponent) {
+        double result = 1.0;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result *= base;
+            }
+            base *= base;
+            exponent >>= 1;
+        }
+        return result;
+    }
+}
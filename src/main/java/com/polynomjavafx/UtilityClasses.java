@@ -1,6 +1,62 @@
 package com.polynomjavafx;
 
+import java.util.concurrent.CancellationException;
+
 public class  UtilityClasses {
+    /**
+     * Stops a long calculation whose result isn't needed anymore, see {@link AnalysisExecutor#cancel()}.
+     * Called in the loops of the analysis and the root solvers
+     * @throws CancellationException if the current thread was interrupted, the interrupt flag is cleared
+     */
+    public static void checkInterrupted() {
+        if (Thread.interrupted()) {
+            throw new CancellationException("The calculation was cancelled");
+        }
+    }
+
     public static double roundToSecondDecimalPoint(double number) {
         return Math.round(number * 100.0) / 100.0;    }
+
+    /**
+     * Parses a list of coefficients of any length, written from the highest exponent to the lowest.
+     * Values are separated by semicolons or whitespace, a comma can be used as decimal separator.
+     * Example: "2; 0; -3,5; 1" --> 2x^3 - 3.5x + 1
+     * @param text list to parse
+     * @return coefficients ordered by ascending exponent, like in {@link Polynomial}
+     * @throws NumberFormatException if the list is empty or contains something else than finite numbers
+     */
+    public static double[] parseCoefficientList(String text) throws NumberFormatException {
+        String trimmed = text.trim();
+        if (trimmed.isEmpty()) {
+            throw new NumberFormatException("The coefficient list is empty");
+        }
+        String[] values = trimmed.split("[;\\s]+");
+        double[] coefficients = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            double value = Double.parseDouble(values[i].replace(",", "."));
+            // parseDouble also accepts NaN and Infinity and overflows to Infinity, no root can be found with them
+            if (!Double.isFinite(value)) {
+                throw new NumberFormatException("The coefficient is not a finite number: " + values[i]);
+            }
+            // The first value belongs to the highest exponent
+            coefficients[values.length - 1 - i] = value;
+        }
+        return coefficients;
+    }
+
+    /**
+     * Formats coefficients the way {@link #parseCoefficientList(String)} reads them
+     * @param coefficients coefficients ordered by ascending exponent
+     * @return list from the highest exponent to the lowest, separated by semicolons
+     */
+    public static String formatCoefficientList(double[] coefficients) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            builder.append(coefficients[i]);
+            if (i > 0) {
+                builder.append("; ");
+            }
+        }
+        return builder.toString();
+    }
 }
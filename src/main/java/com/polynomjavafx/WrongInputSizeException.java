@@ -9,7 +9,7 @@ public class WrongInputSizeException extends Exception {
 
     @Override
     public String getMessage() {
-        return "Wrong input length, input must be an array with the length of 6, your length was: " + length;
+        return "Wrong input length, input must be an array with at least one coefficient, your length was: " + length;
     }
 
 }
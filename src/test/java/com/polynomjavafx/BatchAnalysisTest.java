@@ -0,0 +1,38 @@
+package com.polynomjavafx;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchAnalysisTest {
+
+    @DisplayName("Test that every line gets a result in input order, invalid lines included")
+    @Test
+    void csv() throws IOException {
+        BatchAnalysis analysis = new BatchAnalysis(BatchAnalysis.Format.CSV, new double[]{-2.0}, new double[]{2.0});
+        StringWriter writer = new StringWriter();
+        analysis.run(new BufferedReader(new StringReader("1; 0; -1\n\n# comment\n1; a\n2\n")), writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("line,degree,symmetry,roots,extrema,inflections,saddles,signed_1,absolute_1,error", lines[0]);
+        assertTrue(lines[1].startsWith("1,2,axis,-1.0 1.0,0.0:-1.0,,,1.333"), lines[1]);
+        assertTrue(lines[2].startsWith("4,,,,,,,,,\""), lines[2]);
+        assertEquals("5,0,none,,,,,8.0,8.0,", lines[3]);
+    }
+
+    @DisplayName("Test the JSON Lines output")
+    @Test
+    void jsonLines() {
+        BatchAnalysis analysis = new BatchAnalysis(BatchAnalysis.Format.JSONL, new double[0], new double[0]);
+        assertEquals("{\"line\":3,\"degree\":3,\"symmetry\":\"point\",\"roots\":[0.0],\"extrema\":[[0.0,0.0]],\"inflections\":[[0.0,0.0]],"
+                + "\"saddles\":[[0.0,0.0]],\"integrals\":[]}\n", analysis.analyse(3, "1; 0; 0; 0"));
+        assertTrue(analysis.analyse(1, "x").startsWith("{\"line\":1,\"error\":"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.polynomjavafx;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurveHitIndexTest {
+
+    @DisplayName("Test that the closest curve is found, also between the samples of a long straight segment")
+    @Test
+    void findClosest() throws WrongInputSizeException {
+        Polynomial flat = new Polynomial(new double[]{0});
+        Polynomial rising = new Polynomial(new double[]{0, 1});
+        CurveHitIndex index = new CurveHitIndex();
+        index.reset(100);
+        // Horizontal line at y = 50 and a diagonal from the top left to the bottom right, both with two samples
+        index.add(flat, new double[]{0, 100}, new double[]{50, 50}, 2);
+        index.add(rising, new double[]{0, 100}, new double[]{0, 100}, 2);
+
+        assertSame(flat, index.find(10, 53, 8));
+        assertSame(rising, index.find(90, 88, 8));
+        // The diagonal is far away from the top right corner, even though it covers every y-coordinate overall
+        assertNull(index.find(95, 5, 8));
+    }
+
+    @DisplayName("Test that the curve drawn last wins where curves cross and reset removes all curves")
+    @Test
+    void topmostAndReset() throws WrongInputSizeException {
+        Polynomial first = new Polynomial(new double[]{0});
+        Polynomial second = new Polynomial(new double[]{1});
+        CurveHitIndex index = new CurveHitIndex();
+        index.reset(40);
+        index.add(first, new double[]{0, 40}, new double[]{20, 20}, 2);
+        index.add(second, new double[]{0, 40}, new double[]{20, 20}, 2);
+        assertSame(second, index.find(20, 20, 8));
+
+        index.reset(40);
+        assertNull(index.find(20, 20, 8));
+    }
+}
@@ -0,0 +1,68 @@
+package com.polynomjavafx;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurveSamplerTest {
+    // 800 x 600 canvas with 40 pixels per unit
+    private static final double WIDTH = 800.0;
+    private static final double HEIGHT = 600.0;
+    private static final double SCALE = 40.0;
+
+    /**
+     * Checks that the curve lies within a pixel of every visible segment, measured at the middle of the segment
+     */
+    private void assertCloseToCurve(CurveSampler sampler, int count, Polynomial polynomial, double originX, double originY) {
+        double[] xs = sampler.getXs();
+        double[] ys = sampler.getYs();
+        for (int i = 1; i < count; i++) {
+            double x = (xs[i - 1] + xs[i]) / 2.0;
+            double y = -polynomial.functionValue((x - originX) / SCALE) * SCALE + originY;
+            double dx = xs[i] - xs[i - 1];
+            double dy = ys[i] - ys[i - 1];
+            double distance = Math.abs(dx * (y - ys[i - 1]) - dy * (x - xs[i - 1])) / Math.hypot(dx, dy);
+            if (y >= 0 && y <= HEIGHT) {
+                assertTrue(distance <= 1.0, "x: " + x + ", distance: " + distance);
+            }
+        }
+    }
+
+    @DisplayName("Test that a straight line only needs the points of the coarse grid")
+    @Test
+    void straightLine() throws WrongInputSizeException {
+        int count = new CurveSampler().sample(new Polynomial(new double[]{1.0, 0.5}),
+                WIDTH, HEIGHT, WIDTH / 2.0, HEIGHT / 2.0, SCALE, SCALE);
+        assertEquals(101, count);
+    }
+
+    @DisplayName("Test that the drawn segments stay within the tolerance of the curve")
+    @Test
+    void chordError() throws WrongInputSizeException {
+        Polynomial polynomial = new Polynomial(new double[]{0.0, -4.0, 0.0, 0.5});
+        CurveSampler sampler = new CurveSampler();
+        sampler.setQuality(CurveQuality.PRECISE);
+        int count = sampler.sample(polynomial, WIDTH, HEIGHT, WIDTH / 2.0, HEIGHT / 2.0, SCALE, SCALE);
+
+        // Fewer points than pixel columns, but the curve is visible over the whole width
+        assertTrue(count < WIDTH, "count: " + count);
+        assertCloseToCurve(sampler, count, polynomial, WIDTH / 2.0, HEIGHT / 2.0);
+    }
+
+    @DisplayName("Test that stored intervals are reused after scrolling and parts that become visible are refined")
+    @Test
+    void reuseAfterScrolling() throws WrongInputSizeException {
+        Polynomial polynomial = new Polynomial(new double[]{0.0, -4.0, 0.0, 0.5});
+        CurveSampler sampler = new CurveSampler();
+        sampler.sample(polynomial, WIDTH, HEIGHT, WIDTH / 2.0, HEIGHT / 2.0, SCALE, SCALE);
+
+        // Scroll left and down, the steep parts that were above the view before become visible
+        double originX = WIDTH / 2.0 - 37.0;
+        double originY = HEIGHT / 2.0 + 250.0;
+        int count = sampler.sample(polynomial, WIDTH, HEIGHT, originX, originY, SCALE, SCALE);
+        assertCloseToCurve(sampler, count, polynomial, originX, originY);
+        // The grid stays aligned to the origin, so the first point lies up to one grid step left of the canvas
+        assertTrue(sampler.getXs()[0] <= 0.0 && sampler.getXs()[0] > -8.0);
+    }
+}
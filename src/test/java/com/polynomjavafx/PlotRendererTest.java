@@ -0,0 +1,75 @@
+package com.polynomjavafx;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlotRendererTest {
+
+    @DisplayName("Test that lines, circles and polygons cover the pixels like on a canvas")
+    @Test
+    void rasterize() {
+        RasterImage image = new RasterImage(20, 20);
+        image.fill(PlotRenderer.WHITE);
+        // A line through the pixel centers of row 3 covers exactly that row
+        image.strokeLine(0.0, 3.5, 20.0, 3.5, PlotRenderer.BLACK, 1.0);
+        assertEquals(PlotRenderer.BLACK, image.getPixels()[3 * 20 + 10]);
+        assertEquals(PlotRenderer.WHITE, image.getPixels()[2 * 20 + 10]);
+        assertEquals(PlotRenderer.WHITE, image.getPixels()[4 * 20 + 10]);
+
+        image.fillPolygon(new double[]{10.0, 20.0, 20.0, 10.0}, new double[]{10.0, 10.0, 20.0, 20.0}, 4, PlotRenderer.BLUE);
+        assertEquals(PlotRenderer.BLUE, image.getPixels()[15 * 20 + 15]);
+        assertEquals(PlotRenderer.WHITE, image.getPixels()[15 * 20 + 9]);
+
+        image.fillCircle(5.0, 15.0, 2.5, PlotRenderer.BLACK);
+        assertEquals(PlotRenderer.BLACK, image.getPixels()[15 * 20 + 5]);
+        assertEquals(PlotRenderer.WHITE, image.getPixels()[15 * 20 + 9]);
+    }
+
+    @DisplayName("Test that plots are rendered to the same PNG files on several threads")
+    @Test
+    void renderPngs() throws Exception {
+        Polynomial polynomial = new Polynomial(new double[]{-1.0, 0.0, 1.0});
+        PlotRenderer[] renderers = new PlotRenderer[4];
+        for (int i = 0; i < renderers.length; i++) {
+            renderers[i] = new PlotRenderer(200, 150);
+            renderers[i].addCurve(polynomial, 0xFFFF0000);
+            renderers[i].setIntegral(polynomial, -1.0, 1.0);
+            renderers[i].addPoint(0.0, -1.0, PlotRenderer.BLACK);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<byte[]> images = PlotRenderer.renderPngs(List.of(renderers), executor);
+            assertEquals(4, images.size());
+            byte[] png = images.get(0);
+            assertArrayEquals(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}, Arrays.copyOf(png, 8));
+            // Width and height are the first values of the header chunk
+            assertEquals(200, png[19] & 0xFF);
+            assertEquals(150, png[23] & 0xFF);
+            for (byte[] image : images) {
+                assertArrayEquals(png, image);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // 20 pixels per unit with the origin at (100, 75): the integral fills the area down to y = -1 at x = 0
+        RasterImage image = renderers[0].render();
+        assertEquals(PlotRenderer.BLUE, image.getPixels()[85 * 200 + 100]);
+        // At x = -2 the curve is at y = 3, 60 pixels above the x-axis
+        boolean curveFound = false;
+        for (int row = 10; row <= 16; row++) {
+            int pixel = image.getPixels()[row * 200 + 59];
+            // The grid is drawn over the curve, so the red is slightly mixed with gray
+            curveFound |= (pixel >> 16 & 0xFF) > 2 * (pixel >> 8 & 0xFF);
+        }
+        assertTrue(curveFound);
+    }
+}
@@ -0,0 +1,88 @@
+package com.polynomjavafx;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolylineBuilderTest {
+
+    /**
+     * Builds the polylines of the given points on a canvas with a height of 100 pixels
+     * @return one array per run, alternating x- and y-coordinates
+     */
+    private List<double[]> build(double[][] points) {
+        List<double[]> runs = new ArrayList<>();
+        PolylineBuilder builder = new PolylineBuilder();
+        builder.begin(100.0, (xs, ys, count) -> {
+            double[] run = new double[2 * count];
+            for (int i = 0; i < count; i++) {
+                run[2 * i] = xs[i];
+                run[2 * i + 1] = ys[i];
+            }
+            runs.add(run);
+        });
+        for (double[] point : points) {
+            builder.add(point[0], point[1]);
+        }
+        builder.end();
+        return runs;
+    }
+
+    @DisplayName("Test that points on a straight line are merged into one segment")
+    @Test
+    void dropCollinearPoints() {
+        List<double[]> runs = build(new double[][]{{0, 10}, {1, 11}, {2, 12}, {3, 13}, {4, 20}});
+        assertEquals(1, runs.size());
+        assertArrayEquals(new double[]{0, 10, 3, 13, 4, 20}, runs.get(0));
+    }
+
+    @DisplayName("Test that the dropped points of a slowly bending curve don't add up to a visible error")
+    @Test
+    void slowlyBendingArc() {
+        // One point per pixel, each one is within the tolerance of the line through its neighbours
+        double[][] points = new double[901][];
+        for (int x = 0; x <= 900; x++) {
+            points[x] = new double[]{x, 1.2e-4 * x * x};
+        }
+        List<double[]> runs = build(points);
+        assertEquals(1, runs.size());
+        double[] run = runs.get(0);
+        assertTrue(run.length / 2 < points.length / 4, "Only " + (points.length - run.length / 2) + " points dropped");
+
+        int segment = 0;
+        for (double[] point : points) {
+            while (run[2 * segment + 2] < point[0]) {
+                segment++;
+            }
+            // Distance to the line through the segment that covers the x-coordinate of the point
+            double x0 = run[2 * segment];
+            double y0 = run[2 * segment + 1];
+            double dx = run[2 * segment + 2] - x0;
+            double dy = run[2 * segment + 3] - y0;
+            double distance = Math.abs(dx * (point[1] - y0) - dy * (point[0] - x0)) / Math.hypot(dx, dy);
+            assertTrue(distance <= 0.01 + 1e-9, "Point at x = " + point[0] + " is " + distance + " pixels away");
+        }
+    }
+
+    @DisplayName("Test that the curve is split where it leaves the view and clipped at the margin")
+    @Test
+    void clipRuns() {
+        List<double[]> runs = build(new double[][]{{0, 50}, {10, 1e9}, {20, 1e9}, {30, -1e9}, {40, 50}, {50, 60}});
+        assertEquals(3, runs.size());
+        // Down to the bottom margin at 102
+        assertEquals(102.0, runs.get(0)[3]);
+        // Straight through the view from the bottom to the top margin
+        assertEquals(4, runs.get(1).length);
+        assertEquals(102.0, runs.get(1)[1]);
+        assertEquals(-2.0, runs.get(1)[3]);
+        // Back from the top margin
+        assertEquals(-2.0, runs.get(2)[1]);
+        assertEquals(60.0, runs.get(2)[runs.get(2).length - 1]);
+        assertTrue(Arrays.stream(runs.get(2)).allMatch(Double::isFinite));
+    }
+}
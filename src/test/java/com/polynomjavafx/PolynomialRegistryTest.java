@@ -0,0 +1,78 @@
+package com.polynomjavafx;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialRegistryTest {
+
+    @DisplayName("Test that equal polynomials get different IDs and are removed separately")
+    @Test
+    void equalPolynomials() throws WrongInputSizeException {
+        PolynomialRegistry registry = new PolynomialRegistry();
+        Polynomial first = new Polynomial(new double[]{1.0, 2.0});
+        Polynomial second = new Polynomial(new double[]{1.0, 2.0});
+        Polynomial third = new Polynomial(new double[]{0.0, 0.0, 1.0});
+        long firstId = registry.add(first);
+        long secondId = registry.add(second);
+        long thirdId = registry.add(third);
+
+        assertNotEquals(firstId, secondId);
+        assertSame(second, registry.get(secondId));
+        assertEquals(secondId, registry.getId(second));
+        assertEquals("f(x) = 2x + 1", registry.getLabel(firstId));
+        assertEquals(List.of(first, second, third), List.copyOf(registry.getPolynomials()));
+
+        assertSame(first, registry.remove(firstId));
+        assertFalse(registry.contains(first));
+        assertTrue(registry.contains(second));
+        assertEquals(PolynomialRegistry.NO_ID, registry.getId(first));
+        assertNull(registry.get(firstId));
+        assertEquals("", registry.getLabel(firstId));
+        assertEquals(List.of(second, third), List.copyOf(registry.getPolynomials()));
+
+        // IDs of removed polynomials are not used again
+        assertNotEquals(firstId, registry.add(first));
+        assertThrows(IllegalArgumentException.class, () -> registry.add(first));
+        assertNotEquals(thirdId, registry.getId(first));
+    }
+
+    @DisplayName("Test that the ID list stays in order when deleting from a large registry")
+    @Test
+    void deleteFromLargeRegistry() throws WrongInputSizeException {
+        PolynomialRegistry registry = new PolynomialRegistry();
+        int size = 100_000;
+        long[] ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = registry.add(new Polynomial(new double[]{i}));
+        }
+        assertEquals(size, registry.getIds().size());
+
+        // Every second polynomial, starting from the end and from the middle
+        for (int i = size - 1; i >= size / 2; i -= 2) {
+            registry.remove(ids[i]);
+        }
+        for (int i = 0; i < size / 2; i += 2) {
+            registry.remove(ids[i]);
+        }
+        assertEquals(size / 2, registry.size());
+        assertEquals(size / 2, registry.getIds().size());
+        for (int i = 0; i < registry.getIds().size(); i++) {
+            long id = registry.getIds().get(i);
+            assertNotNull(registry.get(id));
+            if (i > 0) {
+                assertTrue(registry.getIds().get(i - 1) < id);
+            }
+        }
+        // Removing an unknown ID changes nothing
+        assertNull(registry.remove(ids[0]));
+        assertEquals(size / 2, registry.getIds().size());
+        assertThrows(UnsupportedOperationException.class, () -> registry.getIds().clear());
+
+        registry.clear();
+        assertTrue(registry.getIds().isEmpty());
+    }
+}
@@ -65,4 +65,168 @@ class PolynomialTest {
         assertArrayEquals(expected.get(0), actual.get(0));
     }
 
-}
\ No newline at end of file
+    @DisplayName("Test that the analysis is calculated once and renewed when the coefficients change")
+    @Test
+    void getAnalysis() throws WrongInputSizeException {
+        Polynomial polynomial = new Polynomial(new double[]{-1.0, 0.0, 1.0, 0.0, 0.0, 0.0});
+        PolynomialAnalysis analysis = polynomial.getAnalysis();
+        assertSame(analysis, polynomial.getAnalysis());
+        assertEquals(List.of(-1.0, 1.0), polynomial.getRoots());
+
+        polynomial.setCoefficients(new double[]{-4.0, 0.0, 1.0, 0.0, 0.0, 0.0});
+        assertNotSame(analysis, polynomial.getAnalysis());
+        assertEquals(List.of(-2.0, 2.0), polynomial.getRoots());
+
+        // Changing the returned coefficients must not bypass setCoefficients
+        polynomial.getCoefficients()[0] = 0.0;
+        assertEquals(-4.0, polynomial.functionValue(0.0));
+    }
+
+    @DisplayName("Test that the bulk evaluation returns the same values as functionValue")
+    @Test
+    void evaluate() throws WrongInputSizeException {
+        Polynomial polynomial = new Polynomial(new double[]{5.0, -2.0, 8.0, 6.0, 0.0, 0.0});
+        double[] xs = {-3.5, -1.0, 0.0, 0.25, 2.0, 10.0};
+        double[] out = new double[xs.length + 1];
+        out[xs.length] = 42.0;
+        polynomial.evaluate(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(polynomial.functionValue(xs[i]), out[i]);
+        }
+        // A longer output array is allowed, the rest stays untouched
+        assertEquals(42.0, out[xs.length]);
+        assertThrows(IllegalArgumentException.class, () -> polynomial.evaluate(xs, new double[xs.length - 1]));
+
+        double[] range = new double[5];
+        polynomial.evaluateRange(-1.0, 0.5, 5, range);
+        for (int i = 0; i < range.length; i++) {
+            assertEquals(polynomial.functionValue(-1.0 + i * 0.5), range[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> polynomial.evaluateRange(-1.0, 0.5, 6, range));
+    }
+
+    @DisplayName("Test the bulk evaluation of constant polynomials and without values")
+    @Test
+    void evaluateEdgeCases() throws WrongInputSizeException {
+        Polynomial constant = new Polynomial(new double[]{-7.5});
+        double[] out = new double[3];
+        constant.evaluate(new double[]{-1.0e6, 0.0, 3.0}, out);
+        assertArrayEquals(new double[]{-7.5, -7.5, -7.5}, out);
+        constant.evaluateRange(2.0, 1.0, 3, out);
+        assertArrayEquals(new double[]{-7.5, -7.5, -7.5}, out);
+
+        // Nothing to evaluate, even into an empty array
+        constant.evaluate(new double[0], new double[0]);
+        constant.evaluateRange(0.0, 1.0, 0, new double[0]);
+        // Without coefficients there is no polynomial, the static Horner kernel treats them as 0
+        assertThrows(WrongInputSizeException.class, () -> new Polynomial(new double[0]));
+        assertEquals(0.0, Polynomial.functionValue(new double[0], 3.0));
+    }
+
+    @DisplayName("Test polynomials with a degree above five")
+    @Test
+    void highDegree() throws WrongInputSizeException {
+        // x^8 - 1 has the real roots -1 and 1
+        Polynomial polynomial = new Polynomial(UtilityClasses.parseCoefficientList("1; 0; 0; 0; 0; 0; 0; 0; -1"));
+        assertEquals(8, polynomial.getDegree());
+        assertEquals(List.of(-1.0, 1.0), polynomial.getRoots());
+        assertEquals(8, polynomial.getComplexRoots().size());
+        assertArrayEquals(new double[]{0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 8.0}, polynomial.derivationPolynom().getCoefficients());
+        assertEquals("f(x) = x^8 - 1", polynomial.toString());
+
+        assertThrows(WrongInputSizeException.class, () -> new Polynomial(new double[0]));
+        assertThrows(NumberFormatException.class, () -> UtilityClasses.parseCoefficientList("1; a"));
+        assertThrows(NumberFormatException.class, () -> UtilityClasses.parseCoefficientList("1; NaN"));
+        assertThrows(NumberFormatException.class, () -> UtilityClasses.parseCoefficientList("-Infinity; 2"));
+        assertThrows(NumberFormatException.class, () -> UtilityClasses.parseCoefficientList("1e400; 0"));
+    }
+
+    @DisplayName("Test that sparse polynomials behave like dense ones")
+    @Test
+    void sparseRepresentation() throws WrongInputSizeException {
+        double[] coefficients = new double[401];
+        coefficients[400] = 1.0;
+        coefficients[17] = -3.0;
+        coefficients[0] = 2.0;
+        Polynomial polynomial = new Polynomial(coefficients);
+
+        assertTrue(polynomial.isSparse());
+        assertEquals(400, polynomial.getDegree());
+        assertEquals("f(x) = x^400 - 3x^17 + 2", polynomial.toString());
+        assertArrayEquals(coefficients, polynomial.getCoefficients());
+        assertEquals(Polynomial.functionValue(coefficients, 1.001), polynomial.functionValue(1.001), 1.0e-12);
+        assertEquals(Polynomial.newtonStep(coefficients, 0.9), polynomial.newtonStep(0.9), 1.0e-12);
+        assertEquals("f'(x) = 400x^399 - 51x^16", polynomial.derivationPolynom().toString());
+        assertEquals(polynomial.functionValue(0.5), polynomial.antiderivationPolynom().derivationPolynom().functionValue(0.5), 1.0e-12);
+        assertFalse(new Polynomial(new double[]{1.0, 2.0, 3.0, 0.0, 0.0, 0.0}).isSparse());
+    }
+
+    @DisplayName("Test that integrals are split at the roots")
+    @Test
+    void integrate() throws WrongInputSizeException {
+        // x^2 - 1, roots at -1 and 1
+        Polynomial polynomial = new Polynomial(new double[]{-1.0, 0.0, 1.0, 0.0, 0.0, 0.0});
+        double[] lowerBounds = {-2.0, 2.0, -1.0, 1.5};
+        double[] upperBounds = {2.0, -2.0, 1.0, 3.0};
+        double[] signedAreas = new double[4];
+        double[] absoluteAreas = new double[4];
+        polynomial.integrate(lowerBounds, upperBounds, signedAreas, absoluteAreas);
+
+        assertArrayEquals(new double[]{4.0 / 3.0, -4.0 / 3.0, -4.0 / 3.0, 6.375}, signedAreas, 1.0e-12);
+        assertArrayEquals(new double[]{4.0, 4.0, 4.0 / 3.0, 6.375}, absoluteAreas, 1.0e-12);
+        assertEquals(4.0, polynomial.getIntegral(-2.0, 2.0), 1.0e-12);
+        assertEquals(6.0, new Polynomial(new double[]{-2.0, 0.0, 0.0, 0.0, 0.0, 0.0}).getIntegral(1.0, 4.0), 1.0e-12);
+        assertEquals(0.0, new Polynomial(new double[]{0.0, 0.0, 0.0, 0.0, 0.0, 0.0}).getIntegral(1.0, 4.0));
+        assertThrows(IllegalArgumentException.class, () -> polynomial.integrate(lowerBounds, upperBounds, new double[3], null));
+    }
+
+    @DisplayName("Test that the highest term counts when the coefficients have no trailing zeros")
+    @Test
+    void integrateWithoutTrailingZeros() throws WrongInputSizeException {
+        // x^2 - 1 without padding, the antiderivative needs the x^3 term
+        Polynomial polynomial = new Polynomial(new double[]{-1.0, 0.0, 1.0});
+        double[] signedAreas = new double[1];
+        double[] absoluteAreas = new double[1];
+        polynomial.integrate(new double[]{-2.0}, new double[]{2.0}, signedAreas, absoluteAreas);
+
+        assertEquals(4.0 / 3.0, signedAreas[0], 1.0e-12);
+        assertEquals(4.0, absoluteAreas[0], 1.0e-12);
+        assertEquals(4.0, polynomial.getIntegral(-2.0, 2.0), 1.0e-12);
+    }
+
+    @DisplayName("Test that integrals reuse the roots of the analysis")
+    @Test
+    void integralPreparedByAnalysis() throws WrongInputSizeException {
+        Polynomial polynomial = new Polynomial(new double[]{-1.0, 0.0, 1.0});
+        assertFalse(polynomial.isIntegralPrepared());
+        polynomial.getAnalysis();
+        assertTrue(polynomial.isIntegralPrepared());
+        assertEquals(4.0, polynomial.getIntegral(-2.0, 2.0), 1.0e-12);
+
+        // New coefficients need new roots
+        polynomial.setCoefficients(new double[]{-4.0, 0.0, 1.0});
+        assertFalse(polynomial.isIntegralPrepared());
+        assertEquals(32.0 / 3.0, polynomial.getIntegral(-2.0, 2.0), 1.0e-12);
+        assertTrue(polynomial.isIntegralPrepared());
+    }
+
+    @DisplayName("Test that curves outside of the visible area are recognized")
+    @Test
+    void mayIntersect() throws WrongInputSizeException {
+        // x^2 + 10 stays above the area, x^2 - 1 passes through it
+        assertFalse(new Polynomial(new double[]{10.0, 0.0, 1.0}).mayIntersect(-5.0, 5.0, -3.0, 3.0));
+        assertTrue(new Polynomial(new double[]{-1.0, 0.0, 1.0}).mayIntersect(-5.0, 5.0, -3.0, 3.0));
+        // Only the right end of x^3 reaches the area
+        assertTrue(new Polynomial(new double[]{0.0, 0.0, 0.0, 1.0}).mayIntersect(-5.0, 2.0, 7.9, 20.0));
+        assertFalse(new Polynomial(new double[]{0.0, 0.0, 0.0, 1.0}).mayIntersect(-5.0, 1.9, 7.9, 20.0));
+
+        // x^20 - 5 is stored sparsely and stays below the area on [-1, 1]
+        double[] coefficients = new double[21];
+        coefficients[20] = 1.0;
+        coefficients[0] = -5.0;
+        Polynomial sparse = new Polynomial(coefficients);
+        assertTrue(sparse.isSparse());
+        assertFalse(sparse.mayIntersect(-1.0, 1.0, -3.0, 3.0));
+        assertTrue(sparse.mayIntersect(-1.1, 1.1, -3.0, 3.0));
+    }
+}
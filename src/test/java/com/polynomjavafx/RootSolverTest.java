@@ -0,0 +1,91 @@
+package com.polynomjavafx;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RootSolverTest {
+
+    @DisplayName("Test that both solvers find the same real roots")
+    @Test
+    void findRealRoots() {
+        // (x + 2)(x - 1)(x - 3) = x^3 - 2x^2 - 5x + 6
+        double[] coefficients = {6.0, -5.0, -2.0, 1.0, 0.0, 0.0};
+        List<Double> expected = List.of(-2.0, 1.0, 3.0);
+
+        assertEquals(expected, Polynomial.cleanRoots(new AberthRootSolver().findRealRoots(coefficients)));
+        assertEquals(expected, Polynomial.cleanRoots(new NewtonRootSolver().findRealRoots(coefficients)));
+        assertEquals(expected, Polynomial.cleanRoots(new IsolatingRootSolver().findRealRoots(coefficients)));
+    }
+
+    @DisplayName("Test that multiple roots are only reported once")
+    @Test
+    void findMultipleRoots() {
+        // (x - 1)^3 (x + 1) = x^4 - 2x^3 + 2x - 1
+        double[] coefficients = {-1.0, 2.0, 0.0, -2.0, 1.0, 0.0};
+        assertEquals(List.of(-1.0, 1.0), Polynomial.cleanRoots(new AberthRootSolver().findRealRoots(coefficients)));
+        assertEquals(2, new IsolatingRootSolver().findRealRoots(coefficients).size());
+    }
+
+    @DisplayName("Test that the isolating solver finds every root exactly once, also far away from 0")
+    @Test
+    void isolateRoots() {
+        // (x + 100)(x - 0.5)(x - 0.501)(x - 80)^2
+        double[] coefficients = {1.0};
+        for (double root : new double[]{-100.0, 0.5, 0.501, 80.0, 80.0}) {
+            double[] product = new double[coefficients.length + 1];
+            for (int i = 0; i < coefficients.length; i++) {
+                product[i + 1] += coefficients[i];
+                product[i] -= root * coefficients[i];
+            }
+            coefficients = product;
+        }
+
+        ArrayList<Double> roots = new IsolatingRootSolver().findRealRoots(coefficients);
+        roots.sort(null);
+        assertEquals(4, roots.size());
+        assertEquals(-100.0, roots.get(0), 1.0e-9);
+        assertEquals(0.5, roots.get(1), 1.0e-9);
+        assertEquals(0.501, roots.get(2), 1.0e-9);
+        assertEquals(80.0, roots.get(3), 1.0e-6);
+    }
+
+    @DisplayName("Test that the simultaneous solver reports complex roots")
+    @Test
+    void findComplexRoots() {
+        // (x^2 + 1)(x - 2) = x^3 - 2x^2 + x - 2
+        double[] coefficients = {-2.0, 1.0, -2.0, 1.0, 0.0, 0.0};
+        ArrayList<double[]> roots = new AberthRootSolver().findComplexRoots(coefficients);
+        assertEquals(3, roots.size());
+
+        roots.sort((a, b) -> Double.compare(a[1], b[1]));
+        assertArrayEquals(new double[]{0.0, -1.0}, roots.get(0), 1.0e-9);
+        assertArrayEquals(new double[]{2.0, 0.0}, roots.get(1), 1.0e-9);
+        assertArrayEquals(new double[]{0.0, 1.0}, roots.get(2), 1.0e-9);
+
+        assertEquals(List.of(2.0), Polynomial.cleanRoots(new AberthRootSolver().findRealRoots(coefficients)));
+    }
+
+    @DisplayName("Test that the solvers and the analysis stop when the thread is interrupted")
+    @Test
+    void cancelWhenInterrupted() throws WrongInputSizeException {
+        double[] coefficients = {6.0, -5.0, -2.0, 1.0, 0.0, 0.0};
+        for (RootSolver solver : List.of(new AberthRootSolver(), new NewtonRootSolver(), new IsolatingRootSolver())) {
+            Thread.currentThread().interrupt();
+            assertThrows(CancellationException.class, () -> solver.findRealRoots(coefficients));
+            // The flag is cleared, so the thread can go on with the next job
+            assertFalse(Thread.currentThread().isInterrupted());
+        }
+
+        Polynomial polynomial = new Polynomial(coefficients);
+        Thread.currentThread().interrupt();
+        assertThrows(CancellationException.class, polynomial::getAnalysis);
+        assertFalse(polynomial.isAnalysed());
+        assertEquals(List.of(-2.0, 1.0, 3.0), polynomial.getRoots());
+    }
+}